@@ -3,6 +3,8 @@ package amidst;
 import java.io.File;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.prefs.Preferences;
 
 import javax.swing.SwingUtilities;
@@ -20,6 +22,11 @@ import amidst.logging.AmidstLogger;
 import amidst.logging.AmidstMessageBox;
 import amidst.logging.FileLogger;
 import amidst.mojangapi.file.DotMinecraftDirectoryNotFoundException;
+import amidst.mojangapi.world.WorldSeed;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.oracle.SlimeChunkOracle;
+import amidst.mojangapi.world.oracle.SlimeCluster;
+import amidst.mojangapi.world.oracle.SlimeClusterFinder;
 import amidst.util.OperatingSystemDetector;
 
 @NotThreadSafe
@@ -75,6 +82,9 @@ public class Amidst {
 			parser.printUsage(System.out);
 		} else if (parameters.printVersion) {
 			System.out.println(versionString);
+		} else if (parameters.slimeClusterSeed != null) {
+			System.out.println(versionString);
+			findSlimeClusters(parameters);
 		} else {
 			AmidstLogger.info(versionString);
 			logTimeAndProperties();
@@ -83,6 +93,32 @@ public class Amidst {
 		}
 	}
 
+	/**
+	 * Runs without the GUI and without Minecraft, because the slime chunks
+	 * only depend on the seed. Each cluster is printed as soon as it is among
+	 * the best ones found so far.
+	 */
+	private static void findSlimeClusters(CommandLineParameters parameters) {
+		CoordinatesInWorld center = CoordinatesInWorld.tryParse(parameters.slimeClusterCenter);
+		if (center == null) {
+			System.err.println("invalid center: " + parameters.slimeClusterCenter);
+			System.exit(2);
+		}
+		WorldSeed worldSeed = WorldSeed.fromUserInput(parameters.slimeClusterSeed);
+		System.out.println("searching slime clusters for seed " + worldSeed.getLong());
+		List<SlimeCluster> clusters = new SlimeClusterFinder(
+				new SlimeChunkOracle(worldSeed.getLong()),
+				ForkJoinPool.commonPool()).find(
+						center,
+						parameters.slimeClusterSearchRadius,
+						parameters.numberOfSlimeClusters,
+						cluster -> System.out.println("found " + cluster));
+		System.out.println("best AFK positions:");
+		for (SlimeCluster cluster : clusters) {
+			System.out.println(cluster);
+		}
+	}
+
 	private static void initFileLogger(String filename) {
 		if (filename != null) {
 			AmidstLogger.info("using log file: '" + filename + "'");
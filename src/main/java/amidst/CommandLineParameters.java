@@ -29,6 +29,39 @@ public class CommandLineParameters {
 	@Option(name = "-log",                    usage = "location of the log file",                            metaVar = "<file>")
 	public volatile String logFile;
 	
+	@Option(name = "-fragment-loaders",       usage = "number of threads used to load fragments",            metaVar = "<count>")
+	public volatile int numberOfFragmentLoaders = 1;
+
+	@Option(name = "-biome-cache",            usage = "size of the biome data cache, 0 disables it",         metaVar = "<megabytes>")
+	public volatile int biomeCacheSizeInMegabytes = 0;
+
+	@Option(name = "-biome-store",            usage = "location of the biome store directory",               metaVar = "<directory>")
+	public volatile String biomeStoreDirectory;
+
+	@Option(name = "-biome-generators",       usage = "number of independent biome generators",              metaVar = "<count>")
+	public volatile int numberOfBiomeGenerators = 1;
+
+	@Option(name = "-biome-worker-processes", usage = "generate the biomes in separate processes")
+	public volatile boolean useBiomeWorkerProcesses;
+
+	@Option(name = "-genlayers",              usage = "generate the biomes of 1.7 to 1.12 without minecraft")
+	public volatile boolean useGenLayers;
+
+	@Option(name = "-coalesce-biomes",        usage = "request the biomes for structures once per fragment")
+	public volatile boolean coalesceBiomeRequests;
+
+	@Option(name = "-slime-clusters",         usage = "print the best slime farm positions and exit",        metaVar = "<seed>")
+	public volatile String slimeClusterSeed;
+
+	@Option(name = "-slime-center",           usage = "center of the slime cluster search",                  metaVar = "<x,z>")
+	public volatile String slimeClusterCenter = "0,0";
+
+	@Option(name = "-slime-radius",           usage = "radius of the slime cluster search",                  metaVar = "<chunks>")
+	public volatile int slimeClusterSearchRadius = 1000;
+
+	@Option(name = "-slime-results",          usage = "number of printed slime clusters",                    metaVar = "<count>")
+	public volatile int numberOfSlimeClusters = 10;
+
 	@Option(name = "-help",                   usage = "print usage information")
 	public volatile boolean printHelp;
 
@@ -1,12 +1,15 @@
 package amidst;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Optional;
 
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
+import amidst.fragment.FragmentCache;
 import amidst.fragment.FragmentManager;
+import amidst.fragment.LoadedFragmentCache;
 import amidst.fragment.layer.LayerBuilder;
 import amidst.gui.license.LicenseWindow;
 import amidst.gui.main.Actions;
@@ -27,6 +30,7 @@ import amidst.mojangapi.file.MinecraftInstallation;
 import amidst.mojangapi.file.PlayerInformationCache;
 import amidst.mojangapi.file.PlayerInformationProvider;
 import amidst.mojangapi.file.VersionListProvider;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceOptions;
 import amidst.mojangapi.world.SeedHistoryLogger;
 import amidst.mojangapi.world.World;
 import amidst.mojangapi.world.WorldBuilder;
@@ -67,14 +71,28 @@ public class PerApplicationInjector {
 		this.preferredLauncherProfile = minecraftInstallation
 				.tryReadLauncherProfile(parameters.minecraftJarFile, parameters.minecraftJsonFile);
 		this.worldBuilder = new WorldBuilder(playerInformationProvider, seedHistoryLogger);
-		this.launcherProfileRunner = new LauncherProfileRunner(worldBuilder);
+		this.launcherProfileRunner = new LauncherProfileRunner(
+				worldBuilder,
+				new MinecraftInterfaceOptions(
+						parameters.biomeCacheSizeInMegabytes * 1024L * 1024L,
+						parameters.biomeStoreDirectory == null ? null : new File(parameters.biomeStoreDirectory),
+						parameters.numberOfBiomeGenerators,
+						parameters.useBiomeWorkerProcesses,
+						parameters.useGenLayers,
+						parameters.coalesceBiomeRequests));
 		this.biomeProfileDirectory = BiomeProfileDirectory.create(parameters.biomeProfilesDirectory);
-		this.threadMaster = new ThreadMaster();
+		this.threadMaster = new ThreadMaster(parameters.numberOfFragmentLoaders);
 		this.versionListProvider = VersionListProvider
 				.createLocalAndStartDownloadingRemote(threadMaster.getWorkerExecutor());
 		this.layerBuilder = new LayerBuilder();
 		this.zoom = new Zoom(settings.maxZoom);
-		this.fragmentManager = new FragmentManager(layerBuilder.getConstructors(), layerBuilder.getNumberOfLayers());
+		this.fragmentManager = new FragmentManager(
+				layerBuilder.getConstructors(),
+				layerBuilder.getNumberOfLayers(),
+				FragmentCache.calculateMemoryBudget(),
+				LoadedFragmentCache.calculateMemoryBudget(),
+				settings.dimension,
+				threadMaster::wakeUpFragmentLoaders);
 		this.biomeSelection = new BiomeSelection();
 		this.application = new Application(
 				preferredLauncherProfile,
@@ -136,7 +154,9 @@ public class PerApplicationInjector {
 				fragmentManager,
 				biomeSelection,
 				world,
-				actions).getViewerFacade();
+				actions,
+				threadMaster.getNumberOfFragmentLoaders(),
+				threadMaster::wakeUpFragmentLoaders).getViewerFacade();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
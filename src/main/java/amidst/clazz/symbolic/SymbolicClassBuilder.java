@@ -1,5 +1,6 @@
 package amidst.clazz.symbolic;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -80,7 +81,7 @@ public class SymbolicClassBuilder {
 	public void addMethod(SymbolicMethodDeclaration declaration) throws SymbolicClassGraphCreationException {
 		try {
 			methodsBySymbolicName.put(declaration.getSymbolicName(), createMethod(declaration));
-		} catch (NoSuchMethodException | ClassNotFoundException e) {
+		} catch (NoSuchMethodException | ClassNotFoundException | IllegalAccessException e) {
 			declaration.handleMissing(e, product.getSymbolicName(), product.getRealName());
 		}
 	}
@@ -104,13 +105,20 @@ public class SymbolicClassBuilder {
 
 	private SymbolicMethod createMethod(SymbolicMethodDeclaration declaration)
 			throws ClassNotFoundException,
-			NoSuchMethodException {
+			NoSuchMethodException,
+			IllegalAccessException {
 		String symbolicName = declaration.getSymbolicName();
 		String realName = declaration.getRealName();
 		Class<?>[] parameterClasses = getParameterClasses(declaration.getParameters().getDeclarations());
 		Method method = getMethod(product.getClazz(), realName, parameterClasses);
 		SymbolicClass returnType = getType(method.getReturnType());
-		return new SymbolicMethod(product, symbolicName, realName, method, returnType);
+		return new SymbolicMethod(
+				product,
+				symbolicName,
+				realName,
+				method,
+				MethodHandles.lookup().unreflect(method),
+				returnType);
 	}
 
 	private SymbolicField createField(SymbolicFieldDeclaration declaration) throws NoSuchFieldException {
@@ -1,5 +1,7 @@
 package amidst.clazz.symbolic;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
@@ -11,6 +13,7 @@ public class SymbolicMethod {
 	private final String symbolicName;
 	private final String realName;
 	private final Method method;
+	private final MethodHandle methodHandle;
 	private final SymbolicClass returnType;
 
 	public SymbolicMethod(
@@ -18,11 +21,13 @@ public class SymbolicMethod {
 			String symbolicName,
 			String realName,
 			Method method,
+			MethodHandle methodHandle,
 			SymbolicClass returnType) {
 		this.parent = parent;
 		this.symbolicName = symbolicName;
 		this.realName = realName;
 		this.method = method;
+		this.methodHandle = methodHandle;
 		this.returnType = returnType;
 	}
 
@@ -38,6 +43,17 @@ public class SymbolicMethod {
 		return method;
 	}
 
+	/**
+	 * Returns a method handle of the given type for hot paths. It can be
+	 * called with invokeExact, which neither boxes the parameters nor creates
+	 * a varargs array. Instance methods take the receiver as first parameter.
+	 * Classes of Minecraft can be replaced by Object in the given type. The
+	 * result is never wrapped in a SymbolicObject.
+	 */
+	public MethodHandle getMethodHandle(MethodType type) {
+		return methodHandle.asType(type);
+	}
+
 	public Object call(SymbolicObject symbolicObject, Object... parameters)
 			throws IllegalAccessException,
 			IllegalArgumentException,
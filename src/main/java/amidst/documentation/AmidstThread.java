@@ -29,10 +29,13 @@ public enum AmidstThread {
 	EDT,
 
 	/**
-	 * This thread constantly loads, reloads and recycles fragments, because it
-	 * takes to long to do this in the EDT. Since this thread and the EDT
-	 * constantly read from and write to the fragments and fragment graph, extra
-	 * care must be used in this part of the application.
+	 * This thread loads, reloads and recycles fragments, because it takes to
+	 * long to do this in the EDT. It sleeps until it is woken up by new work.
+	 * Since this thread and the EDT constantly read from and write to the
+	 * fragments and fragment graph, extra care must be used in this part of
+	 * the application. The number of fragment loader threads can be configured
+	 * via the command line. If there is more than one, they load different
+	 * fragments concurrently.
 	 */
 	FRAGMENT_LOADER,
 
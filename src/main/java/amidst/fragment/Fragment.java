@@ -1,6 +1,7 @@
 package amidst.fragment;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -56,7 +57,9 @@ import amidst.mojangapi.world.oracle.EndIsland;
  * garbage-collect, the fragment will be recycled so it can be reused later.
  * This recycling is done by enqueuing the fragment to the recycle queue. The
  * recycle queue is processed by the fragment loading thread with a very high
- * priority. Even tough the fragment loading thread only calls the method
+ * priority. The recycled fragment is not removed from the loading queue.
+ * Instead, its generation is increased, so the loading queue can skip it.
+ * Even though the fragment loading thread only calls the method
  * {@link Fragment#recycle()} and enqueues the fragment to the available queue,
  * it is important that this is done by the fragment loading queue. This is,
  * because if any other thread sets the isLoaded variable to false, it might be
@@ -73,14 +76,34 @@ import amidst.mojangapi.world.oracle.EndIsland;
  * enqueued in the recycle queue. Therefore, there cannot be a race condition
  * because the isInitialized variable will only be set to false when it is
  * recycled.
+ * 
+ * If there are multiple fragment loading threads, the loading and the recycling
+ * of a single fragment is synchronized on the fragment, see
+ * {@link FragmentQueueProcessor}. Thus, the above still holds, because at most
+ * one fragment loading thread modifies a given fragment at any point in time.
  */
 @NotThreadSafe
 public class Fragment {
 	public static final int SIZE = Resolution.FRAGMENT.getStep();
 
+	/**
+	 * A fragment of level n covers 2^n by 2^n fragments of level 0. It has
+	 * the same number of biomes and pixels as a fragment of level 0, so each
+	 * of them covers more of the world. This is used when zoomed out, so the
+	 * biomes that are generated and drawn stay proportional to the pixels on
+	 * the screen.
+	 */
+	public static final int MAX_LEVEL = 3;
+
+	public static int getSize(int level) {
+		return SIZE << level;
+	}
+
 	private volatile boolean isInitialized = false;
 	private volatile boolean isLoaded = false;
 	private volatile CoordinatesInWorld corner;
+	private volatile int level;
+	private volatile int generation = 0;
 
 	private volatile float alpha;
 	private volatile short[][] biomeData;
@@ -107,7 +130,7 @@ public class Fragment {
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public void populateBiomeData(BiomeDataOracle biomeDataOracle) {
-		biomeDataOracle.populateArray(corner, biomeData, true);
+		biomeDataOracle.populateCoarseArray(corner, biomeData, level);
 	}
 
 	public short getBiomeDataAt(int x, int y) {
@@ -126,6 +149,14 @@ public class Fragment {
 		return images.getAndSet(layerId, image);
 	}
 
+	/**
+	 * Returns false, if the image was replaced by another thread in the
+	 * meantime.
+	 */
+	public boolean replaceImage(int layerId, BufferedImage expectedImage, BufferedImage image) {
+		return images.compareAndSet(layerId, expectedImage, image);
+	}
+
 	public void putImage(int layerId, BufferedImage image) {
 		images.set(layerId, image);
 	}
@@ -134,6 +165,30 @@ public class Fragment {
 		return images.get(layerId);
 	}
 
+	/**
+	 * Returns the number of bytes used by the biome data and the images of
+	 * this fragment. The world icons are ignored, since they are small.
+	 */
+	@CalledByAny
+	public long getResidentSizeInBytes() {
+		long result = 0;
+		short[][] biomeData = this.biomeData;
+		if (biomeData != null) {
+			for (short[] column : biomeData) {
+				result += column.length * Short.BYTES;
+			}
+		}
+		for (int i = 0; i < images.length(); i++) {
+			BufferedImage image = images.get(i);
+			if (image != null) {
+				DataBuffer dataBuffer = image.getRaster().getDataBuffer();
+				result += (long) dataBuffer.getSize() * DataBuffer.getDataTypeSize(dataBuffer.getDataType())
+						/ Byte.SIZE;
+			}
+		}
+		return result;
+	}
+
 	public void putWorldIcons(int layerId, List<WorldIcon> icons) {
 		worldIcons.set(layerId, icons);
 	}
@@ -162,6 +217,7 @@ public class Fragment {
 	public void recycle() {
 		this.isLoaded = false;
 		this.isInitialized = false;
+		this.generation++;
 	}
 
 	public boolean isInitialized() {
@@ -179,4 +235,28 @@ public class Fragment {
 	public CoordinatesInWorld getCorner() {
 		return corner;
 	}
+
+	public void setLevel(int level) {
+		this.level = level;
+	}
+
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * Returns the number of blocks covered by this fragment in each direction.
+	 */
+	public int getSize() {
+		return getSize(level);
+	}
+
+	/**
+	 * The generation is increased each time the fragment is recycled. This
+	 * allows to detect outdated entries in the loading queue without removing
+	 * them.
+	 */
+	public int getGeneration() {
+		return generation;
+	}
 }
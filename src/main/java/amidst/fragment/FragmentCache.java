@@ -1,37 +1,65 @@
 package amidst.fragment;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.ThreadSafe;
 import amidst.fragment.constructor.FragmentConstructor;
 import amidst.logging.AmidstLogger;
 
+/**
+ * This holds all fragments that were ever created and not trimmed. The cache
+ * grows when there is no available fragment. It shrinks when there are more
+ * idle fragments than needed, e.g. after zooming in again, or when the memory
+ * budget is exceeded. Idle fragments are the ones in the available queue.
+ */
 @ThreadSafe
 public class FragmentCache {
 	private static final int NEW_FRAGMENTS_PER_REQUEST = 1024;
 
-	private final List<Fragment> cache = new LinkedList<>();
+	/**
+	 * This many idle fragments are kept, even if the memory budget is not
+	 * exceeded. This prevents that the cache grows and shrinks all the time.
+	 */
+	private static final int IDLE_FRAGMENTS_TO_KEEP = NEW_FRAGMENTS_PER_REQUEST;
+	private static final long TRIM_INTERVAL_IN_NANOSECONDS = TimeUnit.SECONDS.toNanos(1);
+
+	/**
+	 * Use at most a quarter of the maximum heap size for fragments, as long as
+	 * they are not needed by the fragment graph.
+	 */
+	public static long calculateMemoryBudget() {
+		return Runtime.getRuntime().maxMemory() / 4;
+	}
+
+	private final Set<Fragment> cache = new HashSet<>();
 	private volatile int cacheSize = 0;
+	private volatile long residentSizeInBytes = 0;
+	private long lastTrimTime = System.nanoTime();
 
 	private final ConcurrentLinkedQueue<Fragment> availableQueue;
-	private final ConcurrentLinkedQueue<Fragment> loadingQueue;
+	private final FragmentLoadingQueue loadingQueue;
 	private final Iterable<FragmentConstructor> constructors;
 	private final int numberOfLayers;
+	private final long memoryBudgetInBytes;
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public FragmentCache(
 			ConcurrentLinkedQueue<Fragment> availableQueue,
-			ConcurrentLinkedQueue<Fragment> loadingQueue,
+			FragmentLoadingQueue loadingQueue,
 			Iterable<FragmentConstructor> constructors,
-			int numberOfLayers) {
+			int numberOfLayers,
+			long memoryBudgetInBytes) {
 		this.availableQueue = availableQueue;
 		this.loadingQueue = loadingQueue;
 		this.constructors = constructors;
 		this.numberOfLayers = numberOfLayers;
+		this.memoryBudgetInBytes = memoryBudgetInBytes;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -45,13 +73,16 @@ public class FragmentCache {
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void requestNewFragments() {
+		long newResidentSizeInBytes = residentSizeInBytes;
 		for (int i = 0; i < NEW_FRAGMENTS_PER_REQUEST; i++) {
 			Fragment fragment = new Fragment(numberOfLayers);
 			construct(fragment);
 			cache.add(fragment);
 			availableQueue.offer(fragment);
+			newResidentSizeInBytes += fragment.getResidentSizeInBytes();
 		}
 		cacheSize = cache.size();
+		residentSizeInBytes = newResidentSizeInBytes;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -69,8 +100,64 @@ public class FragmentCache {
 		}
 	}
 
+	/**
+	 * Removes idle fragments from the cache, so they can be garbage collected.
+	 * This also updates the resident size. It does nothing, if it was called
+	 * less than a second ago.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public synchronized void trimIdleFragments() {
+		long now = System.nanoTime();
+		if (now - lastTrimTime < TRIM_INTERVAL_IN_NANOSECONDS) {
+			return;
+		}
+		lastTrimTime = now;
+		long newResidentSizeInBytes = calculateResidentSizeInBytes();
+		int idleFragments = availableQueue.size();
+		int oldSize = cache.size();
+		Fragment fragment;
+		while (isTrimNeeded(idleFragments, newResidentSizeInBytes) && (fragment = availableQueue.poll()) != null) {
+			cache.remove(fragment);
+			newResidentSizeInBytes -= fragment.getResidentSizeInBytes();
+			idleFragments--;
+		}
+		cacheSize = cache.size();
+		residentSizeInBytes = newResidentSizeInBytes;
+		if (oldSize != cache.size()) {
+			AmidstLogger.info("fragment cache size trimmed from " + oldSize + " to " + cache.size());
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private boolean isTrimNeeded(int idleFragments, long residentSizeInBytes) {
+		return idleFragments > IDLE_FRAGMENTS_TO_KEEP
+				|| (idleFragments > 0 && residentSizeInBytes > memoryBudgetInBytes);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private long calculateResidentSizeInBytes() {
+		long result = 0;
+		for (Fragment fragment : cache) {
+			result += fragment.getResidentSizeInBytes();
+		}
+		return result;
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public int size() {
 		return cacheSize;
 	}
+
+	/**
+	 * This value is updated at most once per second.
+	 */
+	@CalledByAny
+	public long getResidentSizeInBytes() {
+		return residentSizeInBytes;
+	}
+
+	@CalledByAny
+	public long getMemoryBudgetInBytes() {
+		return memoryBudgetInBytes;
+	}
 }
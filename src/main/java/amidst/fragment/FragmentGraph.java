@@ -17,6 +17,7 @@ public class FragmentGraph implements Iterable<FragmentGraphItem> {
 
 	private int fragmentsPerRow;
 	private int fragmentsPerColumn;
+	private int level;
 	private final Lazy<FragmentGraphItem> topLeftFragment = Lazy.from(this::createOrigin);
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -25,22 +26,28 @@ public class FragmentGraph implements Iterable<FragmentGraphItem> {
 		this.fragmentManager = fragmentManager;
 	}
 
+	/**
+	 * Replaces all fragments with a single fragment of the given level that
+	 * contains the given coordinates. All fragments of the graph have the same
+	 * level, see {@link Fragment#MAX_LEVEL}.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
-	public void init(CoordinatesInWorld coordinates) {
-		topLeftFragment.setToValue(create(coordinates));
+	public void init(CoordinatesInWorld coordinates, int level) {
+		topLeftFragment.setToValue(create(coordinates, level));
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private FragmentGraphItem createOrigin() {
-		return create(CoordinatesInWorld.origin());
+		return create(CoordinatesInWorld.origin(), 0);
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	private FragmentGraphItem create(CoordinatesInWorld coordinates) {
+	private FragmentGraphItem create(CoordinatesInWorld coordinates, int level) {
 		recycleAll();
 		fragmentsPerRow = 1;
 		fragmentsPerColumn = 1;
-		return new FragmentGraphItem(fragmentManager.requestFragment(coordinates.toFragmentCorner()));
+		this.level = level;
+		return new FragmentGraphItem(fragmentManager.requestFragment(coordinates.toFragmentCorner(level), level));
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -51,9 +58,20 @@ public class FragmentGraph implements Iterable<FragmentGraphItem> {
 				.replaceWithValue(f -> f.adjustRowsAndColumns(newAbove, newBelow, newLeft, newRight, fragmentManager));
 	}
 
+	/**
+	 * Should be called whenever the visible part of the graph changes, so the
+	 * visible fragments are loaded before the prefetched ones, starting in the
+	 * center of the view.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void setVisibleArea(CoordinatesInWorld topLeft, CoordinatesInWorld bottomRight) {
+		fragmentManager.setVisibleArea(topLeft, bottomRight);
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void dispose() {
 		recycleAll();
+		fragmentManager.clearLoadedFragmentCache();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -71,6 +89,16 @@ public class FragmentGraph implements Iterable<FragmentGraphItem> {
 		return fragmentsPerColumn;
 	}
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	public int getLevel() {
+		return level;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public int getFragmentSize() {
+		return Fragment.getSize(level);
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public CoordinatesInWorld getCorner() {
 		return topLeftFragment.getOrCreateValue().getFragment().getCorner();
@@ -89,7 +117,7 @@ public class FragmentGraph implements Iterable<FragmentGraphItem> {
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public Fragment getFragmentAt(CoordinatesInWorld coordinates) {
-		CoordinatesInWorld corner = coordinates.toFragmentCorner();
+		CoordinatesInWorld corner = coordinates.toFragmentCorner(level);
 		for (FragmentGraphItem fragmentGraphItem : topLeftFragment.getOrCreateValue()) {
 			Fragment fragment = fragmentGraphItem.getFragment();
 			if (corner.equals(fragment.getCorner())) {
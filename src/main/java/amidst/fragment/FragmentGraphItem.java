@@ -358,27 +358,28 @@ public class FragmentGraphItem implements Iterable<FragmentGraphItem> {
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private FragmentGraphItem createAbove(FragmentManager manager) {
-		return connectAbove(createFragmentGraphItem(manager, 0, -Fragment.SIZE));
+		return connectAbove(createFragmentGraphItem(manager, 0, -fragment.getSize()));
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private FragmentGraphItem createBelow(FragmentManager manager) {
-		return connectBelow(createFragmentGraphItem(manager, 0, Fragment.SIZE));
+		return connectBelow(createFragmentGraphItem(manager, 0, fragment.getSize()));
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private FragmentGraphItem createLeft(FragmentManager manager) {
-		return connectLeft(createFragmentGraphItem(manager, -Fragment.SIZE, 0));
+		return connectLeft(createFragmentGraphItem(manager, -fragment.getSize(), 0));
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private FragmentGraphItem createRight(FragmentManager manager) {
-		return connectRight(createFragmentGraphItem(manager, Fragment.SIZE, 0));
+		return connectRight(createFragmentGraphItem(manager, fragment.getSize(), 0));
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private FragmentGraphItem createFragmentGraphItem(FragmentManager manager, int xInWorld, int yInWorld) {
-		return new FragmentGraphItem(manager.requestFragment(fragment.getCorner().add(xInWorld, yInWorld)));
+		return new FragmentGraphItem(
+				manager.requestFragment(fragment.getCorner().add(xInWorld, yInWorld), fragment.getLevel()));
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -0,0 +1,164 @@
+package amidst.fragment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.Immutable;
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+
+/**
+ * This is the queue of fragments that wait to be loaded. Fragments in the
+ * visible area are polled before the prefetched fragments outside of it. Within
+ * each group, the fragment that is closest to the focus is polled first. The
+ * focus is the center of the visible area, so the fragments under the cursor
+ * are loaded before the ones at the edges of the screen. Fragments with the
+ * same priority are polled in the order they were offered.
+ *
+ * The priority is calculated when the fragment is offered. When an edge of the
+ * visible area moves to another fragment, the priorities of all queued
+ * fragments are recalculated.
+ *
+ * Recycled fragments are not removed from the queue, since this would take
+ * linear time. Instead, each entry remembers the generation of the fragment at
+ * the time it was offered. When the fragment is recycled, its generation
+ * changes and the entry is skipped when it is polled.
+ */
+@ThreadSafe
+public class FragmentLoadingQueue {
+	@Immutable
+	private static class Entry implements Comparable<Entry> {
+		private final Fragment fragment;
+		private final int generation;
+		private final boolean isVisible;
+		private final double distanceSq;
+		private final long sequenceNumber;
+
+		public Entry(Fragment fragment, int generation, boolean isVisible, double distanceSq, long sequenceNumber) {
+			this.fragment = fragment;
+			this.generation = generation;
+			this.isVisible = isVisible;
+			this.distanceSq = distanceSq;
+			this.sequenceNumber = sequenceNumber;
+		}
+
+		public boolean isOutdated() {
+			return generation != fragment.getGeneration();
+		}
+
+		@Override
+		public int compareTo(Entry o) {
+			if (isVisible != o.isVisible) {
+				return isVisible ? -1 : 1;
+			}
+			int result = Double.compare(distanceSq, o.distanceSq);
+			if (result != 0) {
+				return result;
+			} else {
+				return Long.compare(sequenceNumber, o.sequenceNumber);
+			}
+		}
+	}
+
+	private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+	private CoordinatesInWorld visibleTopLeft = CoordinatesInWorld.origin();
+	private CoordinatesInWorld visibleBottomRight = CoordinatesInWorld.origin();
+	private CoordinatesInWorld focus = CoordinatesInWorld.origin();
+	private long nextSequenceNumber = 0;
+
+	@CalledByAny
+	public synchronized void offer(Fragment fragment) {
+		queue.offer(createEntry(fragment, fragment.getGeneration(), nextSequenceNumber++));
+	}
+
+	/**
+	 * Returns null if the queue is empty. Entries of fragments that were
+	 * recycled after they were offered are skipped.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public synchronized Fragment poll() {
+		Entry entry;
+		while ((entry = queue.poll()) != null) {
+			if (!entry.isOutdated()) {
+				return entry.fragment;
+			}
+		}
+		return null;
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public synchronized void clear() {
+		queue.clear();
+	}
+
+	@CalledByAny
+	public synchronized boolean isEmpty() {
+		return queue.isEmpty();
+	}
+
+	/**
+	 * This includes outdated entries that were not yet skipped.
+	 */
+	@CalledByAny
+	public synchronized int size() {
+		return queue.size();
+	}
+
+	/**
+	 * Re-prioritises the queued fragments, if an edge of the visible area moved
+	 * to another fragment. Smaller movements do not change the order of the
+	 * queued fragments significantly, so they are ignored to keep this cheap.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public synchronized void setVisibleArea(CoordinatesInWorld topLeft, CoordinatesInWorld bottomRight) {
+		if (!topLeft.toFragmentCorner().equals(visibleTopLeft.toFragmentCorner())
+				|| !bottomRight.toFragmentCorner().equals(visibleBottomRight.toFragmentCorner())) {
+			this.visibleTopLeft = topLeft;
+			this.visibleBottomRight = bottomRight;
+			this.focus = CoordinatesInWorld
+					.from((topLeft.getX() + bottomRight.getX()) / 2, (topLeft.getY() + bottomRight.getY()) / 2);
+			reprioritise();
+		}
+	}
+
+	/**
+	 * This also drops the outdated entries.
+	 */
+	private void reprioritise() {
+		List<Entry> entries = new ArrayList<>(queue);
+		queue.clear();
+		for (Entry entry : entries) {
+			if (!entry.isOutdated()) {
+				queue.offer(createEntry(entry.fragment, entry.generation, entry.sequenceNumber));
+			}
+		}
+	}
+
+	private Entry createEntry(Fragment fragment, int generation, long sequenceNumber) {
+		CoordinatesInWorld corner = fragment.getCorner();
+		return new Entry(
+				fragment,
+				generation,
+				isVisible(corner, fragment.getSize()),
+				getDistanceSqToFocus(corner, fragment.getSize() >> 1),
+				sequenceNumber);
+	}
+
+	private boolean isVisible(CoordinatesInWorld corner, int size) {
+		return corner != null && corner.getX() < visibleBottomRight.getX()
+				&& corner.getX() + size > visibleTopLeft.getX() && corner.getY() < visibleBottomRight.getY()
+				&& corner.getY() + size > visibleTopLeft.getY();
+	}
+
+	private double getDistanceSqToFocus(CoordinatesInWorld corner, int halfSize) {
+		if (corner == null) {
+			return Double.MAX_VALUE;
+		} else {
+			return focus.getDistanceSq(corner.getX() + halfSize, corner.getY() + halfSize);
+		}
+	}
+}
@@ -1,11 +1,17 @@
 package amidst.fragment;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
 import amidst.fragment.constructor.FragmentConstructor;
+import amidst.fragment.layer.LayerLoader;
 import amidst.fragment.layer.LayerManager;
 import amidst.mojangapi.world.Dimension;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
@@ -14,41 +20,109 @@ import amidst.settings.Setting;
 @NotThreadSafe
 public class FragmentManager {
 	private final ConcurrentLinkedQueue<Fragment> availableQueue = new ConcurrentLinkedQueue<>();
-	private final ConcurrentLinkedQueue<Fragment> loadingQueue = new ConcurrentLinkedQueue<>();
+	private final FragmentLoadingQueue loadingQueue = new FragmentLoadingQueue();
 	private final ConcurrentLinkedQueue<Fragment> recycleQueue = new ConcurrentLinkedQueue<>();
 	private final FragmentCache cache;
+	private final LoadedFragmentCache loadedFragmentCache;
+	private final Setting<Dimension> dimensionSetting;
+	private final Runnable onWorkAvailable;
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	public FragmentManager(Iterable<FragmentConstructor> constructors, int numberOfLayers) {
-		this.cache = new FragmentCache(availableQueue, loadingQueue, constructors, numberOfLayers);
+	public FragmentManager(
+			Iterable<FragmentConstructor> constructors,
+			int numberOfLayers,
+			long memoryBudgetInBytes,
+			long loadedFragmentCacheMemoryBudgetInBytes,
+			Setting<Dimension> dimensionSetting,
+			Runnable onWorkAvailable) {
+		this.cache = new FragmentCache(availableQueue, loadingQueue, constructors, numberOfLayers, memoryBudgetInBytes);
+		this.loadedFragmentCache = new LoadedFragmentCache(
+				loadedFragmentCacheMemoryBudgetInBytes,
+				this::enqueueRecycle);
+		this.dimensionSetting = dimensionSetting;
+		this.onWorkAvailable = onWorkAvailable;
 	}
 
+	/**
+	 * If the fragment for the given coordinates and level was recently
+	 * recycled and is still loaded, it will be reused without enqueuing it to
+	 * the loading queue.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
-	public Fragment requestFragment(CoordinatesInWorld coordinates) {
-		Fragment fragment;
+	public Fragment requestFragment(CoordinatesInWorld coordinates, int level) {
+		Fragment fragment = loadedFragmentCache.remove(coordinates, level, dimensionSetting.get());
+		if (fragment != null) {
+			return fragment;
+		}
 		while ((fragment = availableQueue.poll()) == null) {
 			cache.increaseSize();
 		}
 		fragment.setCorner(coordinates);
+		fragment.setLevel(level);
 		fragment.setInitialized();
 		loadingQueue.offer(fragment);
+		onWorkAvailable.run();
 		return fragment;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void recycleFragment(Fragment fragment) {
+		if (!loadedFragmentCache.offer(fragment, dimensionSetting.get())) {
+			enqueueRecycle(fragment);
+		}
+	}
+
+	@CalledByAny
+	private void enqueueRecycle(Fragment fragment) {
 		recycleQueue.offer(fragment);
+		onWorkAvailable.run();
+	}
+
+	/**
+	 * This needs to be called when the world changes, because the loaded
+	 * fragments cannot be reused for another world.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void clearLoadedFragmentCache() {
+		loadedFragmentCache.clear();
+	}
+
+	/**
+	 * Fragments in the given area are loaded first, starting in its center.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void setVisibleArea(CoordinatesInWorld topLeft, CoordinatesInWorld bottomRight) {
+		loadingQueue.setVisibleArea(topLeft, bottomRight);
 	}
 
+	/**
+	 * Creates one queue processor for each layer loader of the layer manager.
+	 * Each queue processor should be used by only one fragment loader thread
+	 * at a time. The runnable onFragmentsChanged is called by the fragment
+	 * loader thread after each loaded or reloaded fragment and after each
+	 * change of the visible layers.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
-	public FragmentQueueProcessor createQueueProcessor(LayerManager layerManager, Setting<Dimension> dimensionSetting) {
-		return new FragmentQueueProcessor(
-				availableQueue,
-				loadingQueue,
-				recycleQueue,
-				cache,
-				layerManager,
-				dimensionSetting);
+	public List<FragmentQueueProcessor> createQueueProcessors(
+			LayerManager layerManager,
+			Runnable onFragmentsChanged) {
+		ReadWriteLock layerLock = new ReentrantReadWriteLock();
+		List<FragmentQueueProcessor> result = new ArrayList<>();
+		for (LayerLoader layerLoader : layerManager.getLayerLoaders()) {
+			result.add(
+					new FragmentQueueProcessor(
+							availableQueue,
+							loadingQueue,
+							recycleQueue,
+							cache,
+							loadedFragmentCache,
+							layerManager,
+							layerLoader,
+							layerLock,
+							dimensionSetting,
+							onFragmentsChanged));
+		}
+		return result;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -70,4 +144,24 @@ public class FragmentManager {
 	public int getCacheSize() {
 		return cache.size();
 	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public long getResidentSizeInBytes() {
+		return cache.getResidentSizeInBytes();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public long getMemoryBudgetInBytes() {
+		return cache.getMemoryBudgetInBytes();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public int getLoadedFragmentCacheSize() {
+		return loadedFragmentCache.size();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public long getLoadedFragmentCacheSizeInBytes() {
+		return loadedFragmentCache.getSizeInBytes();
+	}
 }
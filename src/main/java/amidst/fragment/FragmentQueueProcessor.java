@@ -1,38 +1,64 @@
 package amidst.fragment;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
 
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
+import amidst.fragment.layer.LayerLoader;
 import amidst.fragment.layer.LayerManager;
 import amidst.mojangapi.world.Dimension;
 import amidst.settings.Setting;
 
+/**
+ * There is one instance of this class per fragment loader thread. All
+ * instances share the queues, the cache and the layer manager, but each one
+ * uses its own layer loader.
+ * 
+ * Fragments are loaded while holding the read lock of the layer lock. Changes
+ * to the layer manager, like updating the layers or clearing the invalidated
+ * layers, are done while holding the write lock. This ensures that no fragment
+ * is loaded while the invalidated layers change. Loading and recycling a single
+ * fragment is synchronized on the fragment itself, so the life-cycle described
+ * in {@link Fragment} also holds with multiple fragment loader threads.
+ */
 @NotThreadSafe
 public class FragmentQueueProcessor {
 	private final ConcurrentLinkedQueue<Fragment> availableQueue;
-	private final ConcurrentLinkedQueue<Fragment> loadingQueue;
+	private final FragmentLoadingQueue loadingQueue;
 	private final ConcurrentLinkedQueue<Fragment> recycleQueue;
 	private final FragmentCache cache;
+	private final LoadedFragmentCache loadedFragmentCache;
 	private final LayerManager layerManager;
+	private final LayerLoader layerLoader;
+	private final ReadWriteLock layerLock;
 	private final Setting<Dimension> dimensionSetting;
+	private final Runnable onFragmentsChanged;
 
 	@CalledByAny
 	public FragmentQueueProcessor(
 			ConcurrentLinkedQueue<Fragment> availableQueue,
-			ConcurrentLinkedQueue<Fragment> loadingQueue,
+			FragmentLoadingQueue loadingQueue,
 			ConcurrentLinkedQueue<Fragment> recycleQueue,
 			FragmentCache cache,
+			LoadedFragmentCache loadedFragmentCache,
 			LayerManager layerManager,
-			Setting<Dimension> dimensionSetting) {
+			LayerLoader layerLoader,
+			ReadWriteLock layerLock,
+			Setting<Dimension> dimensionSetting,
+			Runnable onFragmentsChanged) {
 		this.availableQueue = availableQueue;
 		this.loadingQueue = loadingQueue;
 		this.recycleQueue = recycleQueue;
 		this.cache = cache;
+		this.loadedFragmentCache = loadedFragmentCache;
 		this.layerManager = layerManager;
+		this.layerLoader = layerLoader;
+		this.layerLock = layerLock;
 		this.dimensionSetting = dimensionSetting;
+		this.onFragmentsChanged = onFragmentsChanged;
 	}
 
 	/**
@@ -48,17 +74,53 @@ public class FragmentQueueProcessor {
 		Fragment fragment;
 		while ((fragment = loadingQueue.poll()) != null) {
 			loadFragment(dimension, fragment);
+			onFragmentsChanged.run();
 			dimension = dimensionSetting.get();
 			updateLayerManager(dimension);
 			processRecycleQueue();
 		}
-		layerManager.clearInvalidatedLayers();
+		clearInvalidatedLayers();
+		cache.trimIdleFragments();
 	}
 
+	/**
+	 * The loaded fragment cache is cleared before the fragments are enqueued
+	 * for reloading. The cached fragments are recycled instead, so they do
+	 * not compete with the visible fragments.
+	 * 
+	 * Hiding a layer or switching the dimension does not reload any fragment,
+	 * so onFragmentsChanged is called for every update of the layer manager.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void updateLayerManager(Dimension dimension) {
-		if (layerManager.updateAll(dimension)) {
-			cache.reloadAll();
+		if (layerManager.isUpdateNeeded(dimension)) {
+			layerLock.writeLock().lock();
+			try {
+				if (layerManager.updateAll(dimension)) {
+					loadedFragmentCache.clear();
+					cache.reloadAll();
+				}
+			} finally {
+				layerLock.writeLock().unlock();
+			}
+			onFragmentsChanged.run();
+		}
+	}
+
+	/**
+	 * Another fragment loader thread might have enqueued fragments for
+	 * reloading since the loading queue was found empty. In this case, the
+	 * invalidated layers are needed to reload them.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void clearInvalidatedLayers() {
+		layerLock.writeLock().lock();
+		try {
+			if (loadingQueue.isEmpty()) {
+				layerManager.clearInvalidatedLayers();
+			}
+		} finally {
+			layerLock.writeLock().unlock();
 		}
 	}
 
@@ -72,30 +134,33 @@ public class FragmentQueueProcessor {
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void loadFragment(Dimension dimension, Fragment fragment) {
-		if (fragment.isInitialized()) {
-			if (fragment.isLoaded()) {
-				layerManager.reloadInvalidated(dimension, fragment);
-			} else {
-				layerManager.loadAll(dimension, fragment);
-				fragment.setLoaded();
+		layerLock.readLock().lock();
+		try {
+			synchronized (fragment) {
+				if (fragment.isInitialized()) {
+					if (fragment.isLoaded()) {
+						layerLoader.reloadInvalidated(dimension, fragment);
+					} else {
+						layerLoader.loadAll(dimension, fragment);
+						fragment.setLoaded();
+					}
+				}
 			}
+		} finally {
+			layerLock.readLock().unlock();
 		}
 	}
 
+	/**
+	 * The fragment is not removed from the loading queue. Recycling increases
+	 * its generation, so the loading queue skips the outdated entries in
+	 * constant time.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void recycleFragment(Fragment fragment) {
-		fragment.recycle();
-		removeFromLoadingQueue(fragment);
-		availableQueue.offer(fragment);
-	}
-
-	// TODO: Check performance with and without this. It is not needed, since
-	// loadFragment checks for isInitialized(). It helps to keep the
-	// loadingQueue small, but it costs time to remove fragments from the queue.
-	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	private void removeFromLoadingQueue(Object fragment) {
-		while (loadingQueue.remove(fragment)) {
-			// noop
+		synchronized (fragment) {
+			fragment.recycle();
 		}
+		availableQueue.offer(fragment);
 	}
 }
@@ -0,0 +1,161 @@
+package amidst.fragment;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.Immutable;
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.Dimension;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+
+/**
+ * This keeps the most recently removed fragments of the fragment graph, as long
+ * as they are fully loaded. When the same corner is requested again with the
+ * same level in the same dimension, the fragment can be displayed immediately
+ * instead of being loaded again. This also keeps the fragments of the previous
+ * level when the level changes while zooming.
+ *
+ * The cached fragments would be outdated when a layer is invalidated, e.g.
+ * when the dimension changes. Instead of reloading them, the fragment loader
+ * clears the cache, so only the fragments of the fragment graph are reloaded.
+ *
+ * The least recently used fragments are passed to the recycler, as soon as the
+ * resident size of the cached fragments exceeds the memory budget.
+ */
+@ThreadSafe
+public class LoadedFragmentCache {
+	@Immutable
+	private static class Key {
+		private final CoordinatesInWorld corner;
+		private final int level;
+		private final Dimension dimension;
+
+		public Key(CoordinatesInWorld corner, int level, Dimension dimension) {
+			this.corner = corner;
+			this.level = level;
+			this.dimension = dimension;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(corner, level, dimension);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return corner.equals(other.corner) && level == other.level && dimension == other.dimension;
+		}
+	}
+
+	@Immutable
+	private static class Entry {
+		private final Fragment fragment;
+		private final long sizeInBytes;
+
+		public Entry(Fragment fragment, long sizeInBytes) {
+			this.fragment = fragment;
+			this.sizeInBytes = sizeInBytes;
+		}
+	}
+
+	/**
+	 * Use at most an eighth of the maximum heap size for cached fragments.
+	 */
+	public static long calculateMemoryBudget() {
+		return Runtime.getRuntime().maxMemory() / 8;
+	}
+
+	private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final long memoryBudgetInBytes;
+	private final Consumer<Fragment> recycler;
+	private long sizeInBytes = 0;
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public LoadedFragmentCache(long memoryBudgetInBytes, Consumer<Fragment> recycler) {
+		this.memoryBudgetInBytes = memoryBudgetInBytes;
+		this.recycler = recycler;
+	}
+
+	/**
+	 * Returns false if the fragment is not loaded or if the memory budget is
+	 * zero. In this case, the fragment has to be recycled by the caller.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public synchronized boolean offer(Fragment fragment, Dimension dimension) {
+		if (fragment.isLoaded() && memoryBudgetInBytes > 0) {
+			Entry entry = new Entry(fragment, fragment.getResidentSizeInBytes());
+			Entry previous = entries.put(new Key(fragment.getCorner(), fragment.getLevel(), dimension), entry);
+			if (previous != null) {
+				sizeInBytes -= previous.sizeInBytes;
+				if (previous.fragment != fragment) {
+					recycler.accept(previous.fragment);
+				}
+			}
+			sizeInBytes += entry.sizeInBytes;
+			Iterator<Entry> iterator = entries.values().iterator();
+			while (sizeInBytes > memoryBudgetInBytes && iterator.hasNext()) {
+				Entry eldest = iterator.next();
+				iterator.remove();
+				sizeInBytes -= eldest.sizeInBytes;
+				recycler.accept(eldest.fragment);
+			}
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns null if there is no loaded fragment for the given corner, level
+	 * and dimension.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public synchronized Fragment remove(CoordinatesInWorld corner, int level, Dimension dimension) {
+		Entry entry = entries.remove(new Key(corner, level, dimension));
+		if (entry != null) {
+			sizeInBytes -= entry.sizeInBytes;
+			return entry.fragment;
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * This is called by the EDT when the world changes and by the fragment
+	 * loader when layers are invalidated.
+	 */
+	@CalledByAny
+	public synchronized void clear() {
+		List<Entry> removed = new ArrayList<>(entries.values());
+		entries.clear();
+		sizeInBytes = 0;
+		for (Entry entry : removed) {
+			recycler.accept(entry.fragment);
+		}
+	}
+
+	@CalledByAny
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	@CalledByAny
+	public synchronized long getSizeInBytes() {
+		return sizeInBytes;
+	}
+}
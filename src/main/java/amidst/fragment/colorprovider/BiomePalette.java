@@ -0,0 +1,76 @@
+package amidst.fragment.colorprovider;
+
+import java.awt.image.DataBuffer;
+import java.awt.image.IndexColorModel;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.ThreadSafe;
+import amidst.gui.main.viewer.BiomeSelection;
+import amidst.mojangapi.world.biome.BiomeColor;
+import amidst.mojangapi.world.biome.UnknownBiomeIndexException;
+import amidst.settings.biomeprofile.BiomeProfileSelection;
+
+/**
+ * The biome images store the biome index of each pixel. This palette maps the
+ * biome indices to the colors of the selected biome profile, taking the
+ * biome selection into account. Thus, changing the biome profile or the biome
+ * selection only requires an update of the palette instead of reloading all
+ * biome images.
+ */
+@ThreadSafe
+public class BiomePalette {
+	private static final int SIZE = 256;
+
+	private final BiomeSelection biomeSelection;
+	private final BiomeProfileSelection biomeProfileSelection;
+	private volatile IndexColorModel colorModel;
+
+	public BiomePalette(BiomeSelection biomeSelection, BiomeProfileSelection biomeProfileSelection) {
+		this.biomeSelection = biomeSelection;
+		this.biomeProfileSelection = biomeProfileSelection;
+		this.colorModel = createColorModel();
+	}
+
+	@CalledByAny
+	public IndexColorModel getColorModel() {
+		return colorModel;
+	}
+
+	/**
+	 * This needs to be called after the biome profile or the biome selection
+	 * was changed.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void update() {
+		colorModel = createColorModel();
+	}
+
+	private IndexColorModel createColorModel() {
+		int[] colors = new int[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			colors[i] = getColor(i);
+		}
+		return new IndexColorModel(8, SIZE, colors, 0, true, -1, DataBuffer.TYPE_BYTE);
+	}
+
+	private int getColor(int biomeIndex) {
+		if (biomeSelection.isSelected(biomeIndex)) {
+			return getBiomeColor(biomeIndex).getRGB();
+		} else {
+			return getBiomeColor(biomeIndex).getDeselectRGB();
+		}
+	}
+
+	/**
+	 * Not every biome index is used, so unknown biome indices are no error.
+	 */
+	private BiomeColor getBiomeColor(int biomeIndex) {
+		try {
+			return biomeProfileSelection.getBiomeColor(biomeIndex);
+		} catch (UnknownBiomeIndexException e) {
+			return BiomeColor.unknown();
+		}
+	}
+}
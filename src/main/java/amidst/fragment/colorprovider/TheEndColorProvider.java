@@ -28,8 +28,8 @@ public class TheEndColorProvider implements ColorProvider {
 
 	@Override
 	public int getColorAt(Dimension dimension, Fragment fragment, long cornerX, long cornerY, int x, int y) {
-		long xAsQuarter = cornerX + x;
-		long yAsQuarter = cornerY + y;
+		long xAsQuarter = cornerX + ((long) x << fragment.getLevel());
+		long yAsQuarter = cornerY + ((long) y << fragment.getLevel());
 		return getColorAt(
 				(int) (xAsQuarter << 2),
 				(int) (yAsQuarter << 2),
@@ -0,0 +1,52 @@
+package amidst.fragment.drawer;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.fragment.colorprovider.BiomePalette;
+import amidst.fragment.layer.LayerDeclaration;
+import amidst.gui.main.viewer.Graphics2DAccelerationCounter;
+
+/**
+ * Draws the indexed biome images with the current biome palette. An image that
+ * still uses an outdated palette is replaced by an image that shares the
+ * pixels, but uses the current palette. This does not touch the pixels.
+ */
+@NotThreadSafe
+public class BiomeImageDrawer extends ImageDrawer {
+	private final BiomePalette biomePalette;
+
+	public BiomeImageDrawer(
+			LayerDeclaration declaration,
+			Graphics2DAccelerationCounter accelerationCounter,
+			BiomePalette biomePalette) {
+		super(declaration, accelerationCounter);
+		this.biomePalette = biomePalette;
+	}
+
+	/**
+	 * If the fragment loader replaces the image in the meantime, it might
+	 * already reuse the replaced image for the next fragment, so the recolored
+	 * image must not be drawn. Instead, the current image of the fragment is
+	 * read and recolored again.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	@Override
+	protected BufferedImage getImage(Fragment fragment) {
+		BufferedImage image = super.getImage(fragment);
+		IndexColorModel colorModel = biomePalette.getColorModel();
+		while (image != null && image.getColorModel() instanceof IndexColorModel
+				&& image.getColorModel() != colorModel) {
+			BufferedImage recolored = new BufferedImage(colorModel, image.getRaster(), false, null);
+			if (fragment.replaceImage(declaration.getLayerId(), image, recolored)) {
+				return recolored;
+			}
+			image = super.getImage(fragment);
+		}
+		return image;
+	}
+}
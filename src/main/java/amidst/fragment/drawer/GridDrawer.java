@@ -28,11 +28,11 @@ public class GridDrawer extends FragmentDrawer {
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void draw(Fragment fragment, Graphics2D g2d, float time) {
-		int stride = getStride();
+		int stride = getStride(fragment);
 		int gridX = getGridX(fragment, stride);
 		int gridY = getGridY(fragment, stride);
 		initGraphics(g2d);
-		drawGridLines(g2d, stride, gridX, gridY);
+		drawGridLines(g2d, fragment.getSize(), stride, gridX, gridY);
 		if (isGrid00(gridX, gridY)) {
 			double invZoom = 1.0 / zoom.getCurrentValue();
 			g2d.scale(invZoom, invZoom);
@@ -43,19 +43,24 @@ public class GridDrawer extends FragmentDrawer {
 		}
 	}
 
+	/**
+	 * The stride is counted in fragments of the level of the given fragment,
+	 * so the grid keeps the same spacing on the screen for all levels.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
-	private int getStride() {
-		return (int) (.25 / zoom.getCurrentValue());
+	private int getStride(Fragment fragment) {
+		int stride = (int) (.25 / zoom.getCurrentValue());
+		return Math.max(1, (stride + 1) >> fragment.getLevel()) - 1;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private int getGridX(Fragment fragment, int stride) {
-		return (int) fragment.getCorner().getXAs(Resolution.FRAGMENT) % (stride + 1);
+		return (int) (fragment.getCorner().getXAs(Resolution.FRAGMENT) >> fragment.getLevel()) % (stride + 1);
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private int getGridY(Fragment fragment, int stride) {
-		return (int) fragment.getCorner().getYAs(Resolution.FRAGMENT) % (stride + 1);
+		return (int) (fragment.getCorner().getYAs(Resolution.FRAGMENT) >> fragment.getLevel()) % (stride + 1);
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -65,18 +70,18 @@ public class GridDrawer extends FragmentDrawer {
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	private void drawGridLines(Graphics2D g2d, int stride, int gridX, int gridY) {
+	private void drawGridLines(Graphics2D g2d, int size, int stride, int gridX, int gridY) {
 		if (gridY == 0) {
-			g2d.drawLine(0, 0, Fragment.SIZE, 0);
+			g2d.drawLine(0, 0, size, 0);
 		}
 		if (gridY == stride) {
-			g2d.drawLine(0, Fragment.SIZE, Fragment.SIZE, Fragment.SIZE);
+			g2d.drawLine(0, size, size, size);
 		}
 		if (gridX == 0) {
-			g2d.drawLine(0, 0, 0, Fragment.SIZE);
+			g2d.drawLine(0, 0, 0, size);
 		}
 		if (gridX == stride) {
-			g2d.drawLine(Fragment.SIZE, 0, Fragment.SIZE, Fragment.SIZE);
+			g2d.drawLine(size, 0, size, size);
 		}
 	}
 
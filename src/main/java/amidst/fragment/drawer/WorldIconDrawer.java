@@ -30,14 +30,15 @@ public class WorldIconDrawer extends FragmentDrawer {
 	public void draw(Fragment fragment, Graphics2D g2d, float time) {
 		double invZoom = 1.0 / zoom.getCurrentValue();
 		AffineTransform originalTransform = g2d.getTransform();
+		CoordinatesInWorld corner = fragment.getCorner();
 		for (WorldIcon icon : fragment.getWorldIcons(declaration.getLayerId())) {
-			drawIcon(icon, invZoom, g2d);
+			drawIcon(icon, corner, invZoom, g2d);
 			g2d.setTransform(originalTransform);
 		}
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	private void drawIcon(WorldIcon icon, double invZoom, Graphics2D g2d) {
+	private void drawIcon(WorldIcon icon, CoordinatesInWorld corner, double invZoom, Graphics2D g2d) {
 		BufferedImage image = icon.getImage().getImage();
 		int width = image.getWidth();
 		int height = image.getHeight();
@@ -46,7 +47,7 @@ public class WorldIconDrawer extends FragmentDrawer {
 			height *= 1.5;
 		}
 		CoordinatesInWorld coordinates = icon.getCoordinates();
-		g2d.translate(coordinates.getXRelativeToFragment(), coordinates.getYRelativeToFragment());
+		g2d.translate(coordinates.getX() - corner.getX(), coordinates.getY() - corner.getY());
 		g2d.scale(invZoom, invZoom);
 		g2d.drawImage(image, -(width >> 1), -(height >> 1), width, height, null);
 	}
@@ -1,5 +1,6 @@
 package amidst.fragment.layer;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -7,26 +8,23 @@ import java.util.List;
 import amidst.AmidstSettings;
 import amidst.documentation.Immutable;
 import amidst.fragment.Fragment;
-import amidst.fragment.colorprovider.BackgroundColorProvider;
-import amidst.fragment.colorprovider.BiomeColorProvider;
-import amidst.fragment.colorprovider.SlimeColorProvider;
-import amidst.fragment.colorprovider.TheEndColorProvider;
+import amidst.fragment.colorprovider.BiomePalette;
 import amidst.fragment.constructor.BiomeDataConstructor;
 import amidst.fragment.constructor.EndIslandsConstructor;
 import amidst.fragment.constructor.FragmentConstructor;
-import amidst.fragment.constructor.ImageConstructor;
 import amidst.fragment.drawer.AlphaUpdater;
+import amidst.fragment.drawer.BiomeImageDrawer;
 import amidst.fragment.drawer.FragmentDrawer;
 import amidst.fragment.drawer.GridDrawer;
 import amidst.fragment.drawer.ImageDrawer;
 import amidst.fragment.drawer.WorldIconDrawer;
 import amidst.fragment.loader.AlphaInitializer;
+import amidst.fragment.loader.BackgroundLoader;
 import amidst.fragment.loader.BiomeDataLoader;
 import amidst.fragment.loader.EndIslandsLoader;
 import amidst.fragment.loader.FragmentLoader;
-import amidst.fragment.loader.ImageLoader;
+import amidst.fragment.loader.SlimeImageLoader;
 import amidst.fragment.loader.WorldIconLoader;
-import amidst.gui.main.viewer.BiomeSelection;
 import amidst.gui.main.viewer.Graphics2DAccelerationCounter;
 import amidst.gui.main.viewer.WorldIconSelection;
 import amidst.gui.main.viewer.Zoom;
@@ -46,15 +44,15 @@ public class LayerBuilder {
 	}
 
 	/**
-	 * This also defines the construction order.
+	 * This also defines the construction order. Images are not constructed,
+	 * because they are created lazily by the ImageLoader when a layer is
+	 * loaded for the first time.
 	 */
 	private Iterable<FragmentConstructor> createConstructors() {
 		return Collections.unmodifiableList(
 				Arrays.asList(
 						new BiomeDataConstructor(Resolution.QUARTER),
-						new EndIslandsConstructor(),
-						new ImageConstructor(Resolution.QUARTER, LayerIds.BACKGROUND),
-						new ImageConstructor(Resolution.CHUNK, LayerIds.SLIME)));
+						new EndIslandsConstructor()));
 	}
 
 	public Iterable<FragmentConstructor> getConstructors() {
@@ -68,17 +66,38 @@ public class LayerBuilder {
 	public LayerManager create(
 			AmidstSettings settings,
 			World world,
-			BiomeSelection biomeSelection,
+			BiomePalette biomePalette,
 			WorldIconSelection worldIconSelection,
 			Zoom zoom,
-			Graphics2DAccelerationCounter accelerationCounter) {
+			Graphics2DAccelerationCounter accelerationCounter,
+			int numberOfLayerLoaders,
+			Runnable onLayerInvalidated) {
 		List<LayerDeclaration> declarations = createDeclarations(settings, world.getVersionFeatures());
 		return new LayerManager(
 				declarations,
-				new LayerLoader(
-						createLoaders(declarations, world, biomeSelection, settings),
-						LayerIds.NUMBER_OF_LAYERS),
-				createDrawers(declarations, zoom, worldIconSelection, accelerationCounter));
+				createLayerLoaders(declarations, world, biomePalette, settings, numberOfLayerLoaders),
+				createDrawers(declarations, zoom, worldIconSelection, accelerationCounter, biomePalette),
+				onLayerInvalidated);
+	}
+
+	/**
+	 * Every layer loader gets its own set of fragment loaders, because e.g. the
+	 * ImageLoader uses per-instance buffers.
+	 */
+	private List<LayerLoader> createLayerLoaders(
+			List<LayerDeclaration> declarations,
+			World world,
+			BiomePalette biomePalette,
+			AmidstSettings settings,
+			int numberOfLayerLoaders) {
+		List<LayerLoader> result = new ArrayList<>(numberOfLayerLoaders);
+		for (int i = 0; i < numberOfLayerLoaders; i++) {
+			result.add(
+					new LayerLoader(
+							createLoaders(declarations, world, biomePalette, settings),
+							LayerIds.NUMBER_OF_LAYERS));
+		}
+		return Collections.unmodifiableList(result);
 	}
 
 	private List<LayerDeclaration> createDeclarations(AmidstSettings settings, VersionFeatures versionFeatures) {
@@ -128,15 +147,15 @@ public class LayerBuilder {
 	private Iterable<FragmentLoader> createLoaders(
 			List<LayerDeclaration> declarations,
 			World world,
-			BiomeSelection biomeSelection,
+			BiomePalette biomePalette,
 			AmidstSettings settings) {
 		// @formatter:off
 		return Collections.unmodifiableList(Arrays.asList(
 				new AlphaInitializer( declarations.get(LayerIds.ALPHA),           settings.fragmentFading),
 				new BiomeDataLoader(  declarations.get(LayerIds.BIOME_DATA),      world.getBiomeDataOracle()),
 				new EndIslandsLoader( declarations.get(LayerIds.END_ISLANDS),     world.getEndIslandOracle()),
-				new ImageLoader(	  declarations.get(LayerIds.BACKGROUND),      Resolution.QUARTER, new BackgroundColorProvider(new BiomeColorProvider(biomeSelection, settings.biomeProfileSelection), new TheEndColorProvider())),
-				new ImageLoader(      declarations.get(LayerIds.SLIME),           Resolution.CHUNK,   new SlimeColorProvider(world.getSlimeChunkOracle())),
+				new BackgroundLoader( declarations.get(LayerIds.BACKGROUND),      biomePalette),
+				new SlimeImageLoader( declarations.get(LayerIds.SLIME),           world.getSlimeChunkOracle()),
 				new WorldIconLoader<>(declarations.get(LayerIds.SPAWN),           world.getSpawnProducer()),
 				new WorldIconLoader<>(declarations.get(LayerIds.STRONGHOLD),      world.getStrongholdProducer()),
 				new WorldIconLoader<>(declarations.get(LayerIds.PLAYER),          world.getPlayerProducer()),
@@ -159,12 +178,13 @@ public class LayerBuilder {
 			List<LayerDeclaration> declarations,
 			Zoom zoom,
 			WorldIconSelection worldIconSelection,
-			Graphics2DAccelerationCounter accelerationCounter) {
+			Graphics2DAccelerationCounter accelerationCounter,
+			BiomePalette biomePalette) {
 		// @formatter:off
 		return Collections.unmodifiableList(Arrays.asList(
 				new AlphaUpdater(   declarations.get(LayerIds.ALPHA)),
-				new ImageDrawer(    declarations.get(LayerIds.BACKGROUND),      Resolution.QUARTER, accelerationCounter),
-				new ImageDrawer(    declarations.get(LayerIds.SLIME),           Resolution.CHUNK,   accelerationCounter),
+				new BiomeImageDrawer(declarations.get(LayerIds.BACKGROUND),     accelerationCounter, biomePalette),
+				new ImageDrawer(    declarations.get(LayerIds.SLIME),           accelerationCounter),
 				new GridDrawer(     declarations.get(LayerIds.GRID),            zoom),
 				new WorldIconDrawer(declarations.get(LayerIds.SPAWN),           zoom, worldIconSelection),
 				new WorldIconDrawer(declarations.get(LayerIds.STRONGHOLD),      zoom, worldIconSelection),
@@ -54,13 +54,26 @@ public class LayerDeclaration {
 	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public boolean update(Dimension dimension) {
-		boolean isEnabled = calculateIsEnabled(dimension, enableAllLayersSetting.get());
-		boolean isVisible = isEnabled && isVisibleSetting.get();
+		boolean isVisible = calculateIsVisible(dimension);
 		boolean reload = isVisible == true && this.isVisible == false;
 		this.isVisible = isVisible;
 		return reload;
 	}
 
+	/**
+	 * Returns whether a call to update would change the isVisible field. This
+	 * does not modify the declaration.
+	 */
+	@CalledByAny
+	public boolean isUpdateNeeded(Dimension dimension) {
+		return calculateIsVisible(dimension) != this.isVisible;
+	}
+
+	@CalledByAny
+	private boolean calculateIsVisible(Dimension dimension) {
+		return calculateIsEnabled(dimension, enableAllLayersSetting.get()) && isVisibleSetting.get();
+	}
+
 	@CalledByAny
 	public boolean calculateIsEnabled(Dimension dimension, boolean enableAllLayers) {
 		return isMatchingDimension(dimension) && isMatchingVersion(enableAllLayers);
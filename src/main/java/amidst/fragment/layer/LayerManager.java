@@ -6,7 +6,7 @@ import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
-import amidst.fragment.Fragment;
+import amidst.fragment.colorprovider.BiomePalette;
 import amidst.fragment.drawer.FragmentDrawer;
 import amidst.mojangapi.world.Dimension;
 import amidst.mojangapi.world.World;
@@ -17,16 +17,42 @@ public class LayerManager {
 	private final TaskQueue invalidationOperations = new TaskQueue();
 
 	private final List<LayerDeclaration> declarations;
-	private final LayerLoader layerLoader;
+	private final List<LayerLoader> layerLoaders;
 	private final Iterable<FragmentDrawer> drawers;
+	private final Runnable onLayerInvalidated;
 
+	/**
+	 * Each fragment loader thread uses its own layer loader, because the
+	 * fragment loaders are not thread-safe. All layer loaders are invalidated
+	 * together. The runnable onLayerInvalidated is called whenever a layer is
+	 * invalidated, so the fragment loaders can be woken up.
+	 */
 	public LayerManager(
 			List<LayerDeclaration> declarations,
-			LayerLoader layerLoader,
-			Iterable<FragmentDrawer> drawers) {
+			List<LayerLoader> layerLoaders,
+			Iterable<FragmentDrawer> drawers,
+			Runnable onLayerInvalidated) {
 		this.declarations = declarations;
-		this.layerLoader = layerLoader;
+		this.layerLoaders = layerLoaders;
 		this.drawers = drawers;
+		this.onLayerInvalidated = onLayerInvalidated;
+	}
+
+	/**
+	 * Returns whether a call to updateAll would change anything. This can be
+	 * called without blocking the fragment loader threads.
+	 */
+	@CalledByAny
+	public boolean isUpdateNeeded(Dimension dimension) {
+		if (invalidationOperations.hasTasks()) {
+			return true;
+		}
+		for (LayerDeclaration declaration : declarations) {
+			if (declaration.isUpdateNeeded(dimension)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
@@ -46,26 +72,25 @@ public class LayerManager {
 	@CalledByAny
 	public void invalidateLayer(int layerId) {
 		invalidationOperations.invoke(() -> doInvalidateLayer(layerId));
+		onLayerInvalidated.run();
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void doInvalidateLayer(int layerId) {
-		layerLoader.invalidateLayer(layerId);
-	}
-
-	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	public void loadAll(Dimension dimension, Fragment fragment) {
-		layerLoader.loadAll(dimension, fragment);
+		for (LayerLoader layerLoader : layerLoaders) {
+			layerLoader.invalidateLayer(layerId);
+		}
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	public void reloadInvalidated(Dimension dimension, Fragment fragment) {
-		layerLoader.reloadInvalidated(dimension, fragment);
+	public void clearInvalidatedLayers() {
+		for (LayerLoader layerLoader : layerLoaders) {
+			layerLoader.clearInvalidatedLayers();
+		}
 	}
 
-	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	public void clearInvalidatedLayers() {
-		layerLoader.clearInvalidatedLayers();
+	public List<LayerLoader> getLayerLoaders() {
+		return layerLoaders;
 	}
 
 	public Iterable<LayerDeclaration> getDeclarations() {
@@ -76,8 +101,8 @@ public class LayerManager {
 		return drawers;
 	}
 
-	public LayerReloader createLayerReloader(World world) {
-		return new LayerReloader(world, this);
+	public LayerReloader createLayerReloader(World world, BiomePalette biomePalette) {
+		return new LayerReloader(world, this, biomePalette);
 	}
 
 	/**
@@ -0,0 +1,60 @@
+package amidst.fragment.loader;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.fragment.colorprovider.BiomePalette;
+import amidst.fragment.colorprovider.TheEndColorProvider;
+import amidst.fragment.layer.LayerDeclaration;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.world.Dimension;
+import amidst.mojangapi.world.coordinates.Resolution;
+
+/**
+ * The background layer shows the biomes in the overworld and the end islands
+ * in the end. Both use a different kind of image.
+ */
+@NotThreadSafe
+public class BackgroundLoader extends FragmentLoader {
+	private final FragmentLoader overworldLoader;
+	private final FragmentLoader theEndLoader;
+
+	@CalledByAny
+	public BackgroundLoader(LayerDeclaration declaration, BiomePalette biomePalette) {
+		super(declaration);
+		this.overworldLoader = new BiomeImageLoader(declaration, biomePalette);
+		this.theEndLoader = new ImageLoader(declaration, Resolution.QUARTER, new TheEndColorProvider());
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void load(Dimension dimension, Fragment fragment) {
+		FragmentLoader loader = getLoader(dimension);
+		if (loader != null) {
+			loader.load(dimension, fragment);
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void reload(Dimension dimension, Fragment fragment) {
+		FragmentLoader loader = getLoader(dimension);
+		if (loader != null) {
+			loader.reload(dimension, fragment);
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private FragmentLoader getLoader(Dimension dimension) {
+		if (dimension.equals(Dimension.OVERWORLD)) {
+			return overworldLoader;
+		} else if (dimension.equals(Dimension.END)) {
+			return theEndLoader;
+		} else {
+			AmidstLogger.warn("unsupported dimension");
+			return null;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package amidst.fragment.loader;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.fragment.colorprovider.BiomePalette;
+import amidst.fragment.layer.LayerDeclaration;
+import amidst.mojangapi.world.Dimension;
+import amidst.mojangapi.world.coordinates.Resolution;
+
+/**
+ * Creates an indexed image with one pixel per quarter resolution biome. The
+ * pixel value is the biome index, so the colors are only determined by the
+ * biome palette when the image is drawn.
+ */
+@NotThreadSafe
+public class BiomeImageLoader extends FragmentLoader {
+	private static final int SIZE = Resolution.QUARTER.getStepsPerFragment();
+
+	private final BiomePalette biomePalette;
+	private BufferedImage bufferedImage;
+
+	@CalledByAny
+	public BiomeImageLoader(LayerDeclaration declaration, BiomePalette biomePalette) {
+		super(declaration);
+		this.biomePalette = biomePalette;
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void load(Dimension dimension, Fragment fragment) {
+		doLoad(fragment);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void reload(Dimension dimension, Fragment fragment) {
+		doLoad(fragment);
+	}
+
+	/**
+	 * The image we get back from the fragment is reused for the next fragment.
+	 * It might be null or an image of another dimension, in which case a new
+	 * image is created.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void doLoad(Fragment fragment) {
+		if (bufferedImage == null || bufferedImage.getType() != BufferedImage.TYPE_BYTE_INDEXED) {
+			bufferedImage = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_BYTE_INDEXED, biomePalette.getColorModel());
+		}
+		byte[] pixels = ((DataBufferByte) bufferedImage.getRaster().getDataBuffer()).getData();
+		for (int y = 0; y < SIZE; y++) {
+			for (int x = 0; x < SIZE; x++) {
+				pixels[x + y * SIZE] = (byte) fragment.getBiomeDataAt(x, y);
+			}
+		}
+		bufferedImage = fragment.getAndSetImage(declaration.getLayerId(), bufferedImage);
+	}
+}
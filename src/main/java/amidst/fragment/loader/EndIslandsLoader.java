@@ -38,11 +38,11 @@ public class EndIslandsLoader extends FragmentLoader {
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void doLoad(Fragment fragment) {
-		fragment.setEndIslands(getEndIslands(fragment.getCorner()));
+		fragment.setEndIslands(getEndIslands(fragment.getCorner(), fragment.getSize()));
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	private List<EndIsland> getEndIslands(CoordinatesInWorld corner) {
-		return endIslandOracle.getAt(corner);
+	private List<EndIsland> getEndIslands(CoordinatesInWorld corner, int size) {
+		return endIslandOracle.getAt(corner, size);
 	}
 }
@@ -48,12 +48,22 @@ public class ImageLoader extends FragmentLoader {
 		doLoad(dimension, fragment);
 	}
 
+	/**
+	 * The fragment only gets an image when this layer is loaded for the first
+	 * time. In this case, we get no image back from the fragment, so a new one
+	 * is created for the next fragment. The same applies, if we get an image
+	 * of another kind back, e.g. when the background layer switches from the
+	 * overworld to the end.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void doLoad(Dimension dimension, Fragment fragment) {
 		CoordinatesInWorld corner = fragment.getCorner();
 		long cornerX = corner.getXAs(resolution);
 		long cornerY = corner.getYAs(resolution);
 		drawToCache(dimension, fragment, cornerX, cornerY);
+		if (bufferedImage == null || bufferedImage.getType() != BufferedImage.TYPE_INT_ARGB) {
+			bufferedImage = createBufferedImage();
+		}
 		bufferedImage.setRGB(0, 0, size, size, rgbArray, 0, size);
 		bufferedImage = fragment.getAndSetImage(declaration.getLayerId(), bufferedImage);
 	}
@@ -0,0 +1,101 @@
+package amidst.fragment.loader;
+
+import java.awt.image.BufferedImage;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.fragment.layer.LayerDeclaration;
+import amidst.mojangapi.world.Dimension;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.coordinates.Resolution;
+import amidst.mojangapi.world.oracle.SlimeChunkOracle;
+
+/**
+ * Creates an image with one pixel per chunk. The slime chunks of the whole
+ * fragment are computed at once and the pixels are written to the raster of
+ * the image in one go. Coarse fragments cover too many chunks for that, so
+ * each pixel stands for a square of chunks and its alpha is proportional to
+ * the number of slime chunks in the square.
+ */
+@NotThreadSafe
+public class SlimeImageLoader extends FragmentLoader {
+	private static final int SLIME_CHUNK_ALPHA = 0xA0;
+	private static final int SLIME_CHUNK_RGB = 0xFE80FA;
+	private static final int SIZE = Resolution.CHUNK.getStepsPerFragment();
+	private static final int MAX_IMAGE_SIZE = 128;
+	private static final int MAX_CHUNKS_PER_SIDE = SIZE << Fragment.MAX_LEVEL;
+
+	private final SlimeChunkOracle slimeChunkOracle;
+	private final long[] slimeChunks = new long[(MAX_CHUNKS_PER_SIDE * MAX_CHUNKS_PER_SIDE + 63) >> 6];
+	private final int[] pixels = new int[MAX_IMAGE_SIZE * MAX_IMAGE_SIZE];
+	private BufferedImage bufferedImage;
+
+	@CalledByAny
+	public SlimeImageLoader(LayerDeclaration declaration, SlimeChunkOracle slimeChunkOracle) {
+		super(declaration);
+		this.slimeChunkOracle = slimeChunkOracle;
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void load(Dimension dimension, Fragment fragment) {
+		doLoad(fragment);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void reload(Dimension dimension, Fragment fragment) {
+		doLoad(fragment);
+	}
+
+	/**
+	 * The image we get back from the fragment is reused for the next fragment.
+	 * It might be null or have the size for another level, in which case a new
+	 * image is created. Setting the data elements of the raster does not
+	 * prevent Java2D from accelerating the image, unlike accessing the array of
+	 * the data buffer.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void doLoad(Fragment fragment) {
+		CoordinatesInWorld corner = fragment.getCorner();
+		int chunksPerSide = SIZE << fragment.getLevel();
+		int size = Math.min(chunksPerSide, MAX_IMAGE_SIZE);
+		int chunksPerPixel = chunksPerSide / size;
+		slimeChunkOracle.getSlimeChunks(
+				corner.getXAs(Resolution.CHUNK),
+				corner.getYAs(Resolution.CHUNK),
+				chunksPerSide,
+				chunksPerSide,
+				slimeChunks);
+		for (int y = 0; y < size; y++) {
+			for (int x = 0; x < size; x++) {
+				int count = countSlimeChunks(x * chunksPerPixel, y * chunksPerPixel, chunksPerPixel, chunksPerSide);
+				int alpha = SLIME_CHUNK_ALPHA * count / (chunksPerPixel * chunksPerPixel);
+				pixels[x + y * size] = alpha << 24 | (alpha == 0 ? 0 : SLIME_CHUNK_RGB);
+			}
+		}
+		if (bufferedImage == null || bufferedImage.getType() != BufferedImage.TYPE_INT_ARGB
+				|| bufferedImage.getWidth() != size) {
+			bufferedImage = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		}
+		bufferedImage.getRaster().setDataElements(0, 0, size, size, pixels);
+		bufferedImage = fragment.getAndSetImage(declaration.getLayerId(), bufferedImage);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private int countSlimeChunks(int chunkX, int chunkY, int chunksPerPixel, int chunksPerSide) {
+		int result = 0;
+		for (int y = chunkY; y < chunkY + chunksPerPixel; y++) {
+			for (int x = chunkX; x < chunkX + chunksPerPixel; x++) {
+				int i = x + y * chunksPerSide;
+				if ((slimeChunks[i >> 6] & 1L << i) != 0) {
+					result++;
+				}
+			}
+		}
+		return result;
+	}
+}
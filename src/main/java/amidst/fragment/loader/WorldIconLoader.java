@@ -8,6 +8,8 @@ import amidst.documentation.NotThreadSafe;
 import amidst.fragment.Fragment;
 import amidst.fragment.layer.LayerDeclaration;
 import amidst.mojangapi.world.Dimension;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.icon.producer.WorldIconCollector;
 import amidst.mojangapi.world.icon.producer.WorldIconProducer;
 
 @NotThreadSafe
@@ -40,10 +42,25 @@ public class WorldIconLoader<T> extends FragmentLoader {
 		doLoad(fragment);
 	}
 
+	/**
+	 * The producers work on fragments of level 0, so the world icons of a
+	 * coarser fragment are gathered from all the fragments of level 0 that it
+	 * covers.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void doLoad(Fragment fragment) {
-		fragment.putWorldIcons(
-				declaration.getLayerId(),
-				producer.getAt(fragment.getCorner(), additionalDataExtractor.apply(fragment)));
+		CoordinatesInWorld corner = fragment.getCorner();
+		T additionalData = additionalDataExtractor.apply(fragment);
+		if (fragment.getLevel() == 0) {
+			fragment.putWorldIcons(declaration.getLayerId(), producer.getAt(corner, additionalData));
+		} else {
+			WorldIconCollector collector = new WorldIconCollector();
+			for (long x = 0; x < fragment.getSize(); x += Fragment.SIZE) {
+				for (long y = 0; y < fragment.getSize(); y += Fragment.SIZE) {
+					producer.produce(corner.add(x, y), collector, additionalData);
+				}
+			}
+			fragment.putWorldIcons(declaration.getLayerId(), collector.get());
+		}
 	}
 }
@@ -7,7 +7,12 @@ import java.awt.datatransfer.StringSelection;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.function.Supplier;
 
 import javax.imageio.ImageIO;
@@ -16,6 +21,7 @@ import amidst.Application;
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
+import amidst.fragment.layer.LayerIds;
 import amidst.gui.crash.CrashWindow;
 import amidst.gui.main.menu.MovePlayerPopupMenu;
 import amidst.gui.main.viewer.ViewerFacade;
@@ -26,6 +32,7 @@ import amidst.mojangapi.world.WorldSeed;
 import amidst.mojangapi.world.WorldType;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 import amidst.mojangapi.world.icon.WorldIcon;
+import amidst.mojangapi.world.icon.type.DefaultWorldIconTypes;
 import amidst.mojangapi.world.player.Player;
 import amidst.mojangapi.world.player.PlayerCoordinates;
 import amidst.settings.biomeprofile.BiomeProfile;
@@ -34,6 +41,34 @@ import amidst.util.FileExtensionChecker;
 
 @NotThreadSafe
 public class Actions {
+	private static final long NEAREST_STRUCTURE_MAX_DISTANCE = 10000;
+	private static final Map<DefaultWorldIconTypes, Integer> NEAREST_STRUCTURE_LAYERS = createNearestStructureLayers();
+
+	/**
+	 * The structure types that can be searched with the layer that displays
+	 * them, in the order in which they are offered.
+	 */
+	private static Map<DefaultWorldIconTypes, Integer> createNearestStructureLayers() {
+		Map<DefaultWorldIconTypes, Integer> result = new LinkedHashMap<>();
+		// @formatter:off
+		result.put(DefaultWorldIconTypes.VILLAGE,           LayerIds.VILLAGE);
+		result.put(DefaultWorldIconTypes.DESERT,            LayerIds.TEMPLE);
+		result.put(DefaultWorldIconTypes.JUNGLE,            LayerIds.TEMPLE);
+		result.put(DefaultWorldIconTypes.WITCH,             LayerIds.TEMPLE);
+		result.put(DefaultWorldIconTypes.IGLOO,             LayerIds.TEMPLE);
+		result.put(DefaultWorldIconTypes.MINESHAFT,         LayerIds.MINESHAFT);
+		result.put(DefaultWorldIconTypes.OCEAN_MONUMENT,    LayerIds.OCEAN_MONUMENT);
+		result.put(DefaultWorldIconTypes.WOODLAND_MANSION,  LayerIds.WOODLAND_MANSION);
+		result.put(DefaultWorldIconTypes.OCEAN_RUINS,       LayerIds.OCEAN_FEATURES);
+		result.put(DefaultWorldIconTypes.SHIPWRECK,         LayerIds.OCEAN_FEATURES);
+		result.put(DefaultWorldIconTypes.STRONGHOLD,        LayerIds.STRONGHOLD);
+		result.put(DefaultWorldIconTypes.NETHER_FORTRESS,   LayerIds.NETHER_FORTRESS);
+		result.put(DefaultWorldIconTypes.END_CITY,          LayerIds.END_CITY);
+		result.put(DefaultWorldIconTypes.POSSIBLE_END_CITY, LayerIds.END_CITY);
+		// @formatter:on
+		return Collections.unmodifiableMap(result);
+	}
+
 	private final Application application;
 	private final MainWindowDialogs dialogs;
 	private final WorldSwitcher worldSwitcher;
@@ -146,6 +181,37 @@ public class Actions {
 		}
 	}
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void goToNearestStructure() {
+		ViewerFacade viewerFacade = viewerFacadeSupplier.get();
+		if (viewerFacade != null) {
+			List<String> labels = new ArrayList<>();
+			for (Entry<DefaultWorldIconTypes, Integer> entry : NEAREST_STRUCTURE_LAYERS.entrySet()) {
+				if (viewerFacade.hasLayer(entry.getValue())) {
+					labels.add(entry.getKey().getLabel());
+				}
+			}
+			String label = dialogs.askForOptions("Go to", "Select structure nearest to the mouse:", labels);
+			if (label != null) {
+				DefaultWorldIconTypes type = getNearestStructureType(label);
+				String message = "There is no " + label + " within " + NEAREST_STRUCTURE_MAX_DISTANCE + " blocks.";
+				viewerFacade.centerOnNearestStructure(type, NEAREST_STRUCTURE_MAX_DISTANCE, () -> {
+					AmidstLogger.info(message);
+					dialogs.displayInfo("Go to", message);
+				});
+			}
+		}
+	}
+
+	private DefaultWorldIconTypes getNearestStructureType(String label) {
+		for (DefaultWorldIconTypes type : NEAREST_STRUCTURE_LAYERS.keySet()) {
+			if (type.getLabel().equals(label)) {
+				return type;
+			}
+		}
+		return null;
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void goToPlayer() {
 		ViewerFacade viewerFacade = viewerFacadeSupplier.get();
@@ -246,7 +312,19 @@ public class Actions {
 		biomeProfileSelection.set(profile);
 		ViewerFacade viewerFacade = viewerFacadeSupplier.get();
 		if (viewerFacade != null) {
-			viewerFacade.reloadBackgroundLayer();
+			viewerFacade.recolorBiomes();
+		}
+	}
+
+	/**
+	 * The settings are not observable, so this has to be called whenever a
+	 * setting that is displayed by the viewer, like a widget, is changed.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void repaintViewer() {
+		ViewerFacade viewerFacade = viewerFacadeSupplier.get();
+		if (viewerFacade != null) {
+			viewerFacade.repaint();
 		}
 	}
 
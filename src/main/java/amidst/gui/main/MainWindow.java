@@ -15,6 +15,7 @@ import amidst.documentation.NotThreadSafe;
 import amidst.gui.main.menu.AmidstMenu;
 import amidst.gui.main.viewer.ViewerFacade;
 import amidst.gui.seedsearcher.SeedSearcherWindow;
+import amidst.mojangapi.RunningLauncherProfile;
 
 @NotThreadSafe
 public class MainWindow {
@@ -22,14 +23,16 @@ public class MainWindow {
 	private final WorldSwitcher worldSwitcher;
 	private final Supplier<ViewerFacade> viewerFacadeSupplier;
 	private final SeedSearcherWindow seedSearcherWindow;
+	private final RunningLauncherProfile runningLauncherProfile;
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public MainWindow(JFrame frame, WorldSwitcher worldSwitcher, Supplier<ViewerFacade> viewerFacadeSupplier,
-			SeedSearcherWindow seedSearcherWindow) {
+			SeedSearcherWindow seedSearcherWindow, RunningLauncherProfile runningLauncherProfile) {
 		this.frame = frame;
 		this.worldSwitcher = worldSwitcher;
 		this.viewerFacadeSupplier = viewerFacadeSupplier;
 		this.seedSearcherWindow = seedSearcherWindow;
+		this.runningLauncherProfile = runningLauncherProfile;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -64,5 +67,6 @@ public class MainWindow {
 			seedSearcherWindow.dispose();
 		}
 		frame.dispose();
+		runningLauncherProfile.dispose();
 	}
 }
@@ -11,6 +11,8 @@ import amidst.FeatureToggles;
 import amidst.documentation.NotThreadSafe;
 import amidst.gui.main.Actions;
 import amidst.mojangapi.world.WorldType;
+import amidst.settings.Setting;
+import amidst.settings.Settings;
 import amidst.settings.biomeprofile.BiomeProfileDirectory;
 
 @NotThreadSafe
@@ -84,6 +86,7 @@ public class AmidstMenuBuilder {
 		Menus.item(result, actions::goToSpawn,             "Go to World Spawn",        KeyEvent.VK_S, MenuShortcuts.GO_TO_WORLD_SPAWN);
 		Menus.item(result, actions::goToStronghold,        "Go to Stronghold",         KeyEvent.VK_H, MenuShortcuts.GO_TO_STRONGHOLD);
 		Menus.item(result, actions::goToPlayer,            "Go to Player",             KeyEvent.VK_P, MenuShortcuts.GO_TO_PLAYER);
+		Menus.item(result, actions::goToNearestStructure,  "Go to Structure ...",      KeyEvent.VK_N, MenuShortcuts.GO_TO_NEAREST_STRUCTURE);
 		result.addSeparator();
 		Menus.item(result, actions::zoomIn,                "Zoom in",                  KeyEvent.VK_I, MenuShortcuts.ZOOM_IN);
 		Menus.item(result, actions::zoomOut,               "Zoom out",                 KeyEvent.VK_O, MenuShortcuts.ZOOM_OUT);
@@ -118,16 +121,26 @@ public class AmidstMenuBuilder {
 		}
 		result.addSeparator();
 		// @formatter:off
-		Menus.checkbox(result, settings.smoothScrolling,      "Smooth Scrolling");
-		Menus.checkbox(result, settings.fragmentFading,       "Fragment Fading");
-		Menus.checkbox(result, settings.maxZoom,              "Restrict Maximum Zoom");
-		Menus.checkbox(result, settings.showFPS,              "Show Framerate");
-		Menus.checkbox(result, settings.showScale,            "Show Scale");
-		Menus.checkbox(result, settings.showDebug,            "Show Debug Information");
+		Menus.checkbox(result, repaintViewerOnSet(settings.smoothScrolling), "Smooth Scrolling");
+		Menus.checkbox(result, repaintViewerOnSet(settings.fragmentFading),  "Fragment Fading");
+		Menus.checkbox(result, repaintViewerOnSet(settings.maxZoom),         "Restrict Maximum Zoom");
+		Menus.checkbox(result, repaintViewerOnSet(settings.showFPS),         "Show Framerate");
+		Menus.checkbox(result, repaintViewerOnSet(settings.showScale),       "Show Scale");
+		Menus.checkbox(result, repaintViewerOnSet(settings.showDebug),       "Show Debug Information");
 		// @formatter:on
 		return result;
 	}
 
+	/**
+	 * These settings are only read while the viewer is painted, so the viewer
+	 * has to be repainted when they change. The layer settings do not need
+	 * this, because the fragment loaders repaint the viewer after each change
+	 * of the visible layers.
+	 */
+	private <T> Setting<T> repaintViewerOnSet(Setting<T> setting) {
+		return Settings.createWithListener(setting, actions::repaintViewer);
+	}
+
 	private JMenu create_Settings_DefaultWorldType() {
 		JMenu result = new JMenu("Default world type");
 		// @formatter:off
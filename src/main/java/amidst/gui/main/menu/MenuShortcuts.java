@@ -24,6 +24,7 @@ public enum MenuShortcuts implements MenuShortcut {
 	GO_TO_WORLD_SPAWN("menu shift S"),
 	GO_TO_STRONGHOLD("menu shift H"),
 	GO_TO_PLAYER("menu shift P"),
+	GO_TO_NEAREST_STRUCTURE("menu shift N"),
 	ZOOM_IN("menu K"),
 	ZOOM_OUT("menu J"),
 	SAVE_PLAYER_LOCATIONS("menu S"),
@@ -0,0 +1,44 @@
+package amidst.gui.main.viewer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.ThreadSafe;
+
+/**
+ * The viewer is only repainted if something changed since the last repaint.
+ * Everything that changes what is displayed by the viewer has to call damage,
+ * e.g. user input, a finished fragment, a changed setting or a running
+ * animation. Changes that are missed anyway are picked up by a repaint that is
+ * done at least once per second.
+ */
+@ThreadSafe
+public class DamageTracker {
+	private static final long MAXIMUM_TIME_BETWEEN_REPAINTS_IN_NANOSECONDS = TimeUnit.SECONDS.toNanos(1);
+
+	private final AtomicBoolean isDamaged = new AtomicBoolean(true);
+	private volatile long lastRepaintTime = System.nanoTime();
+
+	@CalledByAny
+	public void damage() {
+		isDamaged.set(true);
+	}
+
+	/**
+	 * Returns true and resets the damage, if the viewer needs to be repainted.
+	 */
+	@CalledOnlyBy(AmidstThread.REPAINTER)
+	public boolean isRepaintNeeded() {
+		long currentTime = System.nanoTime();
+		if (isDamaged.getAndSet(false)
+				|| currentTime - lastRepaintTime >= MAXIMUM_TIME_BETWEEN_REPAINTS_IN_NANOSECONDS) {
+			lastRepaintTime = currentTime;
+			return true;
+		} else {
+			return false;
+		}
+	}
+}
@@ -55,6 +55,7 @@ public class Drawer {
 	private final Iterable<FragmentDrawer> drawers;
 	private final Setting<Dimension> dimensionSetting;
 	private final Graphics2DAccelerationCounter accelerationCounter;
+	private final DamageTracker damageTracker;
 	private final TexturePaint voidTexturePaint;
 
 	private Graphics2D g2d;
@@ -75,7 +76,8 @@ public class Drawer {
 			List<Widget> widgets,
 			Iterable<FragmentDrawer> drawers,
 			Setting<Dimension> dimensionSetting,
-			Graphics2DAccelerationCounter accelerationCounter) {
+			Graphics2DAccelerationCounter accelerationCounter,
+			DamageTracker damageTracker) {
 		this.graph = graph;
 		this.translator = translator;
 		this.zoom = zoom;
@@ -84,6 +86,7 @@ public class Drawer {
 		this.drawers = drawers;
 		this.dimensionSetting = dimensionSetting;
 		this.accelerationCounter = accelerationCounter;
+		this.damageTracker = damageTracker;
 		this.voidTexturePaint = new TexturePaint(
 				VOID_TEXTURE,
 				new Rectangle(0, 0, VOID_TEXTURE.getWidth(), VOID_TEXTURE.getHeight()));
@@ -128,6 +131,39 @@ public class Drawer {
 		drawFragments();
 		drawBorder();
 		drawWidgets();
+		if (isAnimating()) {
+			damageTracker.damage();
+		}
+	}
+
+	/**
+	 * Returns true, if the next frame will differ from this one even if
+	 * nothing else changes.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	private boolean isAnimating() {
+		return zoom.isAnimating() || movement.isMoving() || isAnyFragmentFading() || isAnyWidgetFading();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private boolean isAnyFragmentFading() {
+		for (FragmentGraphItem fragmentGraphItem : graph) {
+			Fragment fragment = fragmentGraphItem.getFragment();
+			if (fragment.isLoaded() && fragment.getAlpha() < 1.0f) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private boolean isAnyWidgetFading() {
+		for (Widget widget : widgets) {
+			if (widget.isFading()) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -220,9 +256,10 @@ public class Drawer {
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void updateLayerMatrix(FragmentGraphItem fragmentGraphItem, int fragmentsPerRow) {
-		layerMatrix.translate(Fragment.SIZE, 0);
+		int fragmentSize = fragmentGraphItem.getFragment().getSize();
+		layerMatrix.translate(fragmentSize, 0);
 		if (fragmentGraphItem.isEndOfLine()) {
-			layerMatrix.translate(-Fragment.SIZE * fragmentsPerRow, Fragment.SIZE);
+			layerMatrix.translate(-fragmentSize * fragmentsPerRow, fragmentSize);
 		}
 	}
 
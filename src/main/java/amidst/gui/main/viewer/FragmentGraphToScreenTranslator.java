@@ -8,11 +8,20 @@ import amidst.documentation.NotThreadSafe;
 import amidst.fragment.Fragment;
 import amidst.fragment.FragmentGraph;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.coordinates.Resolution;
 
 @NotThreadSafe
 public class FragmentGraphToScreenTranslator {
+	/**
+	 * The maximum number of rows or columns that are prefetched on each side of
+	 * the screen. This limits the number of fragments that are requested but
+	 * not visible.
+	 */
+	private static final int MAX_PREFETCHED_FRAGMENTS = 3;
+
 	private final FragmentGraph graph;
 	private final Zoom zoom;
+	private final Movement movement;
 
 	private double leftOnScreen;
 	private double topOnScreen;
@@ -23,9 +32,10 @@ public class FragmentGraphToScreenTranslator {
 	private boolean isFirstUpdate = true;
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	public FragmentGraphToScreenTranslator(FragmentGraph graph, Zoom zoom) {
+	public FragmentGraphToScreenTranslator(FragmentGraph graph, Zoom zoom, Movement movement) {
 		this.graph = graph;
 		this.zoom = zoom;
+		this.movement = movement;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -33,7 +43,9 @@ public class FragmentGraphToScreenTranslator {
 		this.viewerWidth = viewerWidth;
 		this.viewerHeight = viewerHeight;
 		centerOnOriginIfNecessary();
+		adjustLevel();
 		adjustNumberOfRowsAndColumns();
+		graph.setVisibleArea(screenToWorld(new Point(0, 0)), screenToWorld(new Point(viewerWidth, viewerHeight)));
 	}
 
 	private void centerOnOriginIfNecessary() {
@@ -43,46 +55,99 @@ public class FragmentGraphToScreenTranslator {
 		}
 	}
 
+	/**
+	 * Replaces the fragments, when the zoom needs fragments of another level.
+	 * The coordinates in the center of the screen stay where they are.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void adjustLevel() {
+		if (graph.getLevel() != getLevel()) {
+			centerOn(screenToWorld(new Point(viewerWidth >> 1, viewerHeight >> 1)));
+		}
+	}
+
+	/**
+	 * Returns the highest level whose biomes are not larger than a pixel when
+	 * the zoom reaches its target value. This way, the fragments are replaced
+	 * only once at the beginning of the zoom, and the biomes are never drawn
+	 * with less detail than the screen can show.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	private int getLevel() {
+		double target = zoom.getTargetValue();
+		int level = 0;
+		while (level < Fragment.MAX_LEVEL && (Resolution.QUARTER.getStep() << level + 1) * target <= 1) {
+			level++;
+		}
+		return level;
+	}
+
+	/**
+	 * Besides the visible fragments, the graph contains prefetched rows and
+	 * columns in the direction the map is moving to and on all sides while
+	 * zooming out. They are loaded after the visible fragments, because the
+	 * loading queue prefers fragments in the visible area.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void adjustNumberOfRowsAndColumns() {
-		double fragmentSizeOnScreen = zoom.worldToScreen(Fragment.SIZE);
-		int desiredFragmentsPerRow = (int) (viewerWidth / fragmentSizeOnScreen + 2);
-		int desiredFragmentsPerColumn = (int) (viewerHeight / fragmentSizeOnScreen + 2);
+		double fragmentSizeOnScreen = zoom.worldToScreen(graph.getFragmentSize());
+		double predictedDeltaX = movement.getPredictedDeltaX();
+		double predictedDeltaY = movement.getPredictedDeltaY();
+		double zoomOutMarginX = getZoomOutMargin(viewerWidth);
+		double zoomOutMarginY = getZoomOutMargin(viewerHeight);
+		int prefetchLeft = getPrefetchCount(Math.max(0, predictedDeltaX) + zoomOutMarginX, fragmentSizeOnScreen);
+		int prefetchRight = getPrefetchCount(Math.max(0, -predictedDeltaX) + zoomOutMarginX, fragmentSizeOnScreen);
+		int prefetchAbove = getPrefetchCount(Math.max(0, predictedDeltaY) + zoomOutMarginY, fragmentSizeOnScreen);
+		int prefetchBelow = getPrefetchCount(Math.max(0, -predictedDeltaY) + zoomOutMarginY, fragmentSizeOnScreen);
+		int desiredFragmentsPerRow = (int) (viewerWidth / fragmentSizeOnScreen + 2) + prefetchLeft + prefetchRight;
+		int desiredFragmentsPerColumn = (int) (viewerHeight / fragmentSizeOnScreen + 2) + prefetchAbove
+				+ prefetchBelow;
 		int newColumns = desiredFragmentsPerRow - graph.getFragmentsPerRow();
 		int newRows = desiredFragmentsPerColumn - graph.getFragmentsPerColumn();
-		int newLeft = getNewLeft(fragmentSizeOnScreen);
-		int newAbove = getNewAbove(fragmentSizeOnScreen);
+		int newLeft = getNewLeftOrAbove(leftOnScreen + prefetchLeft * fragmentSizeOnScreen, fragmentSizeOnScreen);
+		int newAbove = getNewLeftOrAbove(topOnScreen + prefetchAbove * fragmentSizeOnScreen, fragmentSizeOnScreen);
 		int newRight = newColumns - newLeft;
 		int newBelow = newRows - newAbove;
 		graph.adjust(newLeft, newAbove, newRight, newBelow);
 		adjustTopLeftOnScreen(fragmentSizeOnScreen * -newLeft, fragmentSizeOnScreen * -newAbove);
 	}
 
+	/**
+	 * Returns the number of pixels that will become visible on each side of
+	 * the screen, when the zoom reaches its target value.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
-	private int getNewLeft(double fragmentSizeOnScreen) {
-		if (leftOnScreen > 0) {
-			return (int) (leftOnScreen / fragmentSizeOnScreen) + 1;
+	private double getZoomOutMargin(int viewerSize) {
+		double current = zoom.getCurrentValue();
+		double target = zoom.getTargetValue();
+		if (target < current) {
+			return viewerSize * (current / target - 1) / 2;
 		} else {
-			return (int) (leftOnScreen / fragmentSizeOnScreen);
+			return 0;
 		}
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	private int getNewAbove(double fragmentSizeOnScreen) {
-		if (topOnScreen > 0) {
-			return (int) (topOnScreen / fragmentSizeOnScreen) + 1;
+	private int getPrefetchCount(double pixels, double fragmentSizeOnScreen) {
+		return Math.min(MAX_PREFETCHED_FRAGMENTS, (int) Math.ceil(pixels / fragmentSizeOnScreen));
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private int getNewLeftOrAbove(double onScreen, double fragmentSizeOnScreen) {
+		if (onScreen > 0) {
+			return (int) (onScreen / fragmentSizeOnScreen) + 1;
 		} else {
-			return (int) (topOnScreen / fragmentSizeOnScreen);
+			return (int) (onScreen / fragmentSizeOnScreen);
 		}
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void centerOn(final CoordinatesInWorld coordinates) {
-		graph.init(coordinates);
+		graph.init(coordinates, getLevel());
 		int xCenterOnScreen = viewerWidth >> 1;
 		int yCenterOnScreen = viewerHeight >> 1;
-		long xFragmentRelative = coordinates.getXRelativeToFragment();
-		long yFragmentRelative = coordinates.getYRelativeToFragment();
+		long xFragmentRelative = coordinates.getX() - graph.getCorner().getX();
+		long yFragmentRelative = coordinates.getY() - graph.getCorner().getY();
 		setTopLeftOnScreen(
 				xCenterOnScreen - zoom.worldToScreen(xFragmentRelative),
 				yCenterOnScreen - zoom.worldToScreen(yFragmentRelative));
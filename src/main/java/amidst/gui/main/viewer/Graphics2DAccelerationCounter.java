@@ -21,7 +21,12 @@ public class Graphics2DAccelerationCounter {
 	private volatile int total = 0;
 	private volatile float acceleratedPercentage = 0;
 
-	private static final GraphicsConfiguration GC = GraphicsEnvironment
+	/**
+	 * This is null in a headless environment, e.g. when benchmarking the
+	 * drawer. No image is accelerated in this case.
+	 */
+	private static final GraphicsConfiguration GC = GraphicsEnvironment.isHeadless() ? null
+			: GraphicsEnvironment
 			.getLocalGraphicsEnvironment()
 			.getDefaultScreenDevice()
 			.getDefaultConfiguration();
@@ -32,7 +37,7 @@ public class Graphics2DAccelerationCounter {
 	 */
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void log(BufferedImage image) {
-		if (image.getCapabilities(GC).isAccelerated()) {
+		if (GC != null && image.getCapabilities(GC).isAccelerated()) {
 			accelerated++;
 		}
 		total++;
@@ -9,6 +9,12 @@ import amidst.settings.Setting;
 
 @NotThreadSafe
 public class Movement {
+	/**
+	 * The number of ticks used to predict the movement. With smooth scrolling,
+	 * this is roughly the distance until the map stops.
+	 */
+	private static final int PREDICTION_TICKS = 20;
+
 	private double speedX = 0;
 	private double speedY = 0;
 	private Point lastMouse;
@@ -57,6 +63,35 @@ public class Movement {
 		}
 	}
 
+	/**
+	 * Returns the expected horizontal movement of the map on the screen in the
+	 * next ticks, in pixels. A positive value means that the map moves to the
+	 * right, so new fragments will become visible on the left.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public double getPredictedDeltaX() {
+		return speedX * PREDICTION_TICKS;
+	}
+
+	/**
+	 * Returns the expected vertical movement of the map on the screen in the
+	 * next ticks, in pixels. A positive value means that the map moves down, so
+	 * new fragments will become visible at the top.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public double getPredictedDeltaY() {
+		return speedY * PREDICTION_TICKS;
+	}
+
+	/**
+	 * Returns true, if the map is dragged or if the next call to update will
+	 * move the map.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public boolean isMoving() {
+		return lastMouse != null || (int) speedX != 0 || (int) speedY != 0;
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void setLastMouse(Point lastMouse) {
 		this.lastMouse = lastMouse;
@@ -2,6 +2,7 @@ package amidst.gui.main.viewer;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Supplier;
 
 import amidst.AmidstSettings;
@@ -11,6 +12,7 @@ import amidst.documentation.NotThreadSafe;
 import amidst.fragment.FragmentGraph;
 import amidst.fragment.FragmentManager;
 import amidst.fragment.FragmentQueueProcessor;
+import amidst.fragment.colorprovider.BiomePalette;
 import amidst.fragment.layer.LayerBuilder;
 import amidst.fragment.layer.LayerManager;
 import amidst.fragment.layer.LayerReloader;
@@ -28,9 +30,11 @@ import amidst.gui.main.viewer.widget.SelectedIconWidget;
 import amidst.gui.main.viewer.widget.Widget;
 import amidst.gui.main.viewer.widget.Widget.CornerAnchorPoint;
 import amidst.gui.main.viewer.widget.WidgetManager;
+import amidst.mojangapi.world.Dimension;
 import amidst.mojangapi.world.World;
 import amidst.mojangapi.world.export.WorldExporter;
 import amidst.mojangapi.world.export.WorldExporterConfiguration;
+import amidst.settings.Setting;
 import amidst.threading.WorkerExecutor;
 
 @NotThreadSafe
@@ -64,14 +68,18 @@ public class PerViewerFacadeInjector {
 	}
 
 	private final WorkerExecutor workerExecutor;
+	private final Setting<Dimension> dimensionSetting;
+	private final Runnable wakeUpFragmentLoaders;
 	private final World world;
 	private final Graphics2DAccelerationCounter accelerationCounter;
+	private final DamageTracker damageTracker;
 	private final Movement movement;
 	private final WorldIconSelection worldIconSelection;
+	private final BiomePalette biomePalette;
 	private final LayerManager layerManager;
 	private final FragmentGraph graph;
 	private final FragmentGraphToScreenTranslator translator;
-	private final FragmentQueueProcessor fragmentQueueProcessor;
+	private final ConcurrentLinkedQueue<FragmentQueueProcessor> idleFragmentQueueProcessors;
 	private final LayerReloader layerReloader;
 	private final ProgressMessageHolder progressMessageHolder;
 	private final List<Widget> widgets;
@@ -90,19 +98,34 @@ public class PerViewerFacadeInjector {
 			FragmentManager fragmentManager,
 			BiomeSelection biomeSelection,
 			World world,
-			Actions actions) {
+			Actions actions,
+			int numberOfFragmentLoaders,
+			Runnable wakeUpFragmentLoaders) {
 		this.workerExecutor = workerExecutor;
+		this.dimensionSetting = settings.dimension;
+		this.wakeUpFragmentLoaders = wakeUpFragmentLoaders;
 		this.world = world;
 		this.accelerationCounter = new Graphics2DAccelerationCounter();
+		this.damageTracker = new DamageTracker();
 		this.movement = new Movement(settings.smoothScrolling);
 		this.worldIconSelection = new WorldIconSelection();
+		this.biomePalette = new BiomePalette(biomeSelection, settings.biomeProfileSelection);
 		this.layerManager = layerBuilder
-				.create(settings, world, biomeSelection, worldIconSelection, zoom, accelerationCounter);
+				.create(
+						settings,
+						world,
+						biomePalette,
+						worldIconSelection,
+						zoom,
+						accelerationCounter,
+						numberOfFragmentLoaders,
+						wakeUpFragmentLoaders);
 		this.graph = new FragmentGraph(layerManager.getDeclarations(), fragmentManager);
-		this.translator = new FragmentGraphToScreenTranslator(graph, zoom);
-		this.fragmentQueueProcessor = fragmentManager.createQueueProcessor(layerManager, settings.dimension);
-		this.layerReloader = layerManager.createLayerReloader(world);
-		this.progressMessageHolder = new ProgressMessageHolder();
+		this.translator = new FragmentGraphToScreenTranslator(graph, zoom, movement);
+		this.idleFragmentQueueProcessors = new ConcurrentLinkedQueue<>(
+				fragmentManager.createQueueProcessors(layerManager, damageTracker::damage));
+		this.layerReloader = layerManager.createLayerReloader(world, biomePalette);
+		this.progressMessageHolder = new ProgressMessageHolder(damageTracker);
 		this.widgets = createWidgets(
 				world,
 				graph,
@@ -123,9 +146,17 @@ public class PerViewerFacadeInjector {
 				widgets,
 				layerManager.getDrawers(),
 				settings.dimension,
-				accelerationCounter);
+				accelerationCounter,
+				damageTracker);
 		this.widgetManager = new WidgetManager(widgets);
-		this.viewerMouseListener = new ViewerMouseListener(widgetManager, graph, translator, zoom, movement, actions);
+		this.viewerMouseListener = new ViewerMouseListener(
+				widgetManager,
+				graph,
+				translator,
+				zoom,
+				movement,
+				actions,
+				damageTracker);
 		this.viewer = new Viewer(viewerMouseListener, drawer);
 		this.viewerFacade = new ViewerFacade(
 				world,
@@ -134,6 +165,7 @@ public class PerViewerFacadeInjector {
 				translator,
 				zoom,
 				viewer,
+				damageTracker,
 				layerReloader,
 				worldIconSelection,
 				layerManager,
@@ -149,14 +181,35 @@ public class PerViewerFacadeInjector {
 		return new WorldExporter(workerExecutor, world, configuration, progressMessageHolder::setProgressMessage);
 	}
 
+	/**
+	 * The layer settings and the zoom level are not observable, so changes to
+	 * them are detected here and passed on to the waiting fragment loaders.
+	 * The viewer is only repainted if it was damaged.
+	 */
 	@CalledOnlyBy(AmidstThread.REPAINTER)
 	private void onRepainterTick() {
-		viewer.repaintComponent();
+		if (layerManager.isUpdateNeeded(dimensionSetting.get())) {
+			wakeUpFragmentLoaders.run();
+		}
+		if (damageTracker.isRepaintNeeded()) {
+			viewer.repaintComponent();
+		}
 	}
 
+	/**
+	 * Each fragment loader thread takes an idle queue processor, so no queue
+	 * processor is used by two threads at the same time.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void onFragmentLoaderTick() {
-		fragmentQueueProcessor.processQueues();
+		FragmentQueueProcessor fragmentQueueProcessor = idleFragmentQueueProcessors.poll();
+		if (fragmentQueueProcessor != null) {
+			try {
+				fragmentQueueProcessor.processQueues();
+			} finally {
+				idleFragmentQueueProcessors.offer(fragmentQueueProcessor);
+			}
+		}
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -7,11 +7,18 @@ import amidst.documentation.NotThreadSafe;
 
 @NotThreadSafe
 public class ProgressMessageHolder {
+	private final DamageTracker damageTracker;
 	private volatile String progressMessage;
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	public ProgressMessageHolder(DamageTracker damageTracker) {
+		this.damageTracker = damageTracker;
+	}
+
 	@CalledByAny
 	public void setProgressMessage(String progressMessage) {
 		this.progressMessage = progressMessage;
+		damageTracker.damage();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -21,6 +21,7 @@ import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 import amidst.mojangapi.world.export.WorldExporter;
 import amidst.mojangapi.world.export.WorldExporterConfiguration;
 import amidst.mojangapi.world.icon.WorldIcon;
+import amidst.mojangapi.world.icon.type.DefaultWorldIconTypes;
 import amidst.mojangapi.world.player.MovablePlayerList;
 import amidst.threading.WorkerExecutor;
 
@@ -37,6 +38,7 @@ public class ViewerFacade {
 	private final FragmentGraphToScreenTranslator translator;
 	private final Zoom zoom;
 	private final Viewer viewer;
+	private final DamageTracker damageTracker;
 	private final LayerReloader layerReloader;
 	private final WorldIconSelection worldIconSelection;
 	private final LayerManager layerManager;
@@ -54,6 +56,7 @@ public class ViewerFacade {
 			FragmentGraphToScreenTranslator translator,
 			Zoom zoom,
 			Viewer viewer,
+			DamageTracker damageTracker,
 			LayerReloader layerReloader,
 			WorldIconSelection worldIconSelection,
 			LayerManager layerManager,
@@ -68,6 +71,7 @@ public class ViewerFacade {
 		this.translator = translator;
 		this.zoom = zoom;
 		this.viewer = viewer;
+		this.damageTracker = damageTracker;
 		this.layerReloader = layerReloader;
 		this.worldIconSelection = worldIconSelection;
 		this.layerManager = layerManager;
@@ -84,8 +88,14 @@ public class ViewerFacade {
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	public void reloadBackgroundLayer() {
-		layerReloader.reloadBackgroundLayer();
+	public void recolorBiomes() {
+		layerReloader.recolorBiomes();
+		damageTracker.damage();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void repaint() {
+		damageTracker.damage();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -114,12 +124,35 @@ public class ViewerFacade {
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void centerOn(CoordinatesInWorld coordinates) {
 		translator.centerOn(coordinates);
+		damageTracker.damage();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void centerOn(WorldIcon worldIcon) {
 		translator.centerOn(worldIcon.getCoordinates());
 		worldIconSelection.select(worldIcon);
+		damageTracker.damage();
+	}
+
+	/**
+	 * Searches the structure of the given type that is closest to the mouse
+	 * position in a worker thread. Centers on it if it is found.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void centerOnNearestStructure(DefaultWorldIconTypes type, long maxDistance, Runnable onNotFound) {
+		CoordinatesInWorld from = translator.screenToWorld(viewer.getMousePositionOrCenter());
+		workerExecutor.run(
+				() -> world.nearestStructure(type, from, maxDistance),
+				(WorldIcon worldIcon) -> centerOnOrElse(worldIcon, onNotFound));
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void centerOnOrElse(WorldIcon worldIcon, Runnable onNotFound) {
+		if (worldIcon != null) {
+			centerOn(worldIcon);
+		} else {
+			onNotFound.run();
+		}
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -130,16 +163,19 @@ public class ViewerFacade {
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void adjustZoom(int notches) {
 		zoom.adjustZoom(viewer.getMousePositionOrCenter(), notches);
+		damageTracker.damage();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void adjustZoom(Point mousePosition, int notches) {
 		zoom.adjustZoom(mousePosition, notches);
+		damageTracker.damage();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void selectWorldIcon(WorldIcon worldIcon) {
 		worldIconSelection.select(worldIcon);
+		damageTracker.damage();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
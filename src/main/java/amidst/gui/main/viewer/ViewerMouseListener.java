@@ -4,6 +4,7 @@ import java.awt.Component;
 import java.awt.Point;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
 import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
 
@@ -15,13 +16,14 @@ import amidst.gui.main.Actions;
 import amidst.gui.main.viewer.widget.WidgetManager;
 
 @NotThreadSafe
-public class ViewerMouseListener implements MouseListener, MouseWheelListener {
+public class ViewerMouseListener implements MouseListener, MouseMotionListener, MouseWheelListener {
 	private final WidgetManager widgetManager;
 	private final FragmentGraph graph;
 	private final FragmentGraphToScreenTranslator translator;
 	private final Zoom zoom;
 	private final Movement movement;
 	private final Actions actions;
+	private final DamageTracker damageTracker;
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public ViewerMouseListener(
@@ -30,18 +32,21 @@ public class ViewerMouseListener implements MouseListener, MouseWheelListener {
 			FragmentGraphToScreenTranslator translator,
 			Zoom zoom,
 			Movement movement,
-			Actions actions) {
+			Actions actions,
+			DamageTracker damageTracker) {
 		this.widgetManager = widgetManager;
 		this.graph = graph;
 		this.translator = translator;
 		this.zoom = zoom;
 		this.movement = movement;
 		this.actions = actions;
+		this.damageTracker = damageTracker;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mouseWheelMoved(MouseWheelEvent e) {
+		damageTracker.damage();
 		Point mousePosition = e.getPoint();
 		int notches = e.getWheelRotation();
 		if (!widgetManager.mouseWheelMoved(mousePosition, notches)) {
@@ -52,6 +57,7 @@ public class ViewerMouseListener implements MouseListener, MouseWheelListener {
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mouseClicked(MouseEvent e) {
+		damageTracker.damage();
 		Point mousePosition = e.getPoint();
 		if (isRightClick(e)) {
 			// noop
@@ -63,6 +69,7 @@ public class ViewerMouseListener implements MouseListener, MouseWheelListener {
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mousePressed(MouseEvent e) {
+		damageTracker.damage();
 		Point mousePosition = e.getPoint();
 		if (isPopup(e)) {
 			showPopupMenu(mousePosition, e.getComponent(), e.getX(), e.getY());
@@ -76,6 +83,7 @@ public class ViewerMouseListener implements MouseListener, MouseWheelListener {
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mouseReleased(MouseEvent e) {
+		damageTracker.damage();
 		Point mousePosition = e.getPoint();
 		if (isPopup(e)) {
 			showPopupMenu(mousePosition, e.getComponent(), e.getX(), e.getY());
@@ -87,13 +95,31 @@ public class ViewerMouseListener implements MouseListener, MouseWheelListener {
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mouseEntered(MouseEvent e) {
-		// noop
+		damageTracker.damage();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	@Override
 	public void mouseExited(MouseEvent e) {
-		// noop
+		damageTracker.damage();
+	}
+
+	/**
+	 * The map is moved by the drawer, which polls the mouse position.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	@Override
+	public void mouseDragged(MouseEvent e) {
+		damageTracker.damage();
+	}
+
+	/**
+	 * Some widgets display information about the position of the mouse.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	@Override
+	public void mouseMoved(MouseEvent e) {
+		damageTracker.damage();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -69,6 +69,22 @@ public class Zoom {
 		return current;
 	}
 
+	/**
+	 * This is the value the current value approaches while zooming.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public double getTargetValue() {
+		return target;
+	}
+
+	/**
+	 * Returns true, if the next call to update will change the current value.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public boolean isAnimating() {
+		return remainingTicks > 0;
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void skipFading() {
 		remainingTicks = 0;
@@ -23,7 +23,7 @@ public class BiomeToggleWidget extends ImmutableIconWidget {
 	@Override
 	public boolean onMousePressed(int x, int y) {
 		biomeSelection.toggleHighlightMode();
-		layerReloader.reloadBackgroundLayer();
+		layerReloader.recolorBiomes();
 		return true;
 	}
 
@@ -69,8 +69,10 @@ public class CursorInformationWidget extends TextWidget {
 	private String getOverworldBiomeNameAt(CoordinatesInWorld coordinates) {
 		Fragment fragment = graph.getFragmentAt(coordinates);
 		if (fragment != null && fragment.isLoaded()) {
-			long x = coordinates.getXRelativeToFragmentAs(Resolution.QUARTER);
-			long y = coordinates.getYRelativeToFragmentAs(Resolution.QUARTER);
+			CoordinatesInWorld corner = fragment.getCorner();
+			int level = fragment.getLevel();
+			long x = Resolution.QUARTER.convertFromWorldToThis(coordinates.getX() - corner.getX()) >> level;
+			long y = Resolution.QUARTER.convertFromWorldToThis(coordinates.getY() - corner.getY()) >> level;
 			short biome = fragment.getBiomeDataAt((int) x, (int) y);
 			try {
 				return Biome.getByIndex(biome).getName();
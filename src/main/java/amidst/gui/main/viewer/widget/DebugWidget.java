@@ -41,9 +41,17 @@ public class DebugWidget extends TextWidget {
 			return Arrays.asList(
 					"Fragment Manager:",
 					"Cache Size: " + fragmentManager.getCacheSize(),
+					String.format(
+							"Resident Size: %1$d MB / %2$d MB",
+							toMegaBytes(fragmentManager.getResidentSizeInBytes()),
+							toMegaBytes(fragmentManager.getMemoryBudgetInBytes())),
 					"Available Queue Size: " + fragmentManager.getAvailableQueueSize(),
 					"Loading Queue Size: " + fragmentManager.getLoadingQueueSize(),
 					"Recycle Queue Size: " + fragmentManager.getRecycleQueueSize(),
+					String.format(
+							"Loaded Fragment Cache Size: %1$d [%2$d MB]",
+							fragmentManager.getLoadedFragmentCacheSize(),
+							toMegaBytes(fragmentManager.getLoadedFragmentCacheSizeInBytes())),
 					"",
 					"Viewer:",
 					"Size: " + columns + "x" + rows + " [" + (columns * rows) + "]",
@@ -52,4 +60,9 @@ public class DebugWidget extends TextWidget {
 			return null;
 		}
 	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private long toMegaBytes(long bytes) {
+		return bytes / (1024 * 1024);
+	}
 }
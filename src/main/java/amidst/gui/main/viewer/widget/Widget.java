@@ -253,7 +253,7 @@ public abstract class Widget {
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	private boolean isFading() {
+	public boolean isFading() {
 		return targetAlpha != alpha;
 	}
 
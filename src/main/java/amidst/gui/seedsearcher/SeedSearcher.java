@@ -24,6 +24,7 @@ public class SeedSearcher {
 
 	private volatile boolean isSearching = false;
 	private volatile boolean isStopRequested = false;
+	private volatile boolean isDisposed = false;
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public SeedSearcher(
@@ -52,9 +53,18 @@ public class SeedSearcher {
 		this.isStopRequested = true;
 	}
 
+	/**
+	 * The seed searcher has its own copy of the running launcher profile. It
+	 * is disposed when the current search stops, or right away if there is
+	 * none.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void dispose() {
 		stop();
+		isDisposed = true;
+		if (!isSearching) {
+			runningLauncherProfile.dispose();
+		}
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -77,6 +87,9 @@ public class SeedSearcher {
 		} finally {
 			this.isSearching = false;
 			this.isStopRequested = false;
+			if (isDisposed) {
+				runningLauncherProfile.dispose();
+			}
 		}
 	}
 
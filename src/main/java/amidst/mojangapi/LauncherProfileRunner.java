@@ -3,17 +3,20 @@ package amidst.mojangapi;
 import amidst.documentation.Immutable;
 import amidst.mojangapi.file.LauncherProfile;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaceCreationException;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceOptions;
 import amidst.mojangapi.world.WorldBuilder;
 
 @Immutable
 public class LauncherProfileRunner {
 	private final WorldBuilder worldBuilder;
+	private final MinecraftInterfaceOptions options;
 
-	public LauncherProfileRunner(WorldBuilder worldBuilder) {
+	public LauncherProfileRunner(WorldBuilder worldBuilder, MinecraftInterfaceOptions options) {
 		this.worldBuilder = worldBuilder;
+		this.options = options;
 	}
 
 	public RunningLauncherProfile run(LauncherProfile launcherProfile) throws MinecraftInterfaceCreationException {
-		return RunningLauncherProfile.from(worldBuilder, launcherProfile);
+		return RunningLauncherProfile.from(worldBuilder, launcherProfile, options);
 	}
 }
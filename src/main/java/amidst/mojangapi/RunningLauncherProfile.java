@@ -5,38 +5,54 @@ import java.io.IOException;
 import amidst.documentation.ThreadSafe;
 import amidst.mojangapi.file.LauncherProfile;
 import amidst.mojangapi.file.SaveGame;
+import amidst.mojangapi.minecraftinterface.CachingMinecraftInterface;
+import amidst.mojangapi.minecraftinterface.DiskCachingMinecraftInterface;
 import amidst.mojangapi.minecraftinterface.LoggingMinecraftInterface;
 import amidst.mojangapi.minecraftinterface.MinecraftInterface;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaces;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaceCreationException;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceOptions;
 import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.minecraftinterface.VoronoiMinecraftInterface;
 import amidst.mojangapi.world.World;
 import amidst.mojangapi.world.WorldBuilder;
 import amidst.mojangapi.world.WorldOptions;
 
 @ThreadSafe
 public class RunningLauncherProfile {
-	public static RunningLauncherProfile from(WorldBuilder worldBuilder, LauncherProfile launcherProfile)
-			throws MinecraftInterfaceCreationException {
+	public static RunningLauncherProfile from(
+			WorldBuilder worldBuilder,
+			LauncherProfile launcherProfile,
+			MinecraftInterfaceOptions options) throws MinecraftInterfaceCreationException {
 		return new RunningLauncherProfile(
 				worldBuilder,
 				launcherProfile,
-				new LoggingMinecraftInterface(MinecraftInterfaces.fromLocalProfile(launcherProfile)));
+				new LoggingMinecraftInterface(
+						VoronoiMinecraftInterface.wrap(
+								CachingMinecraftInterface.wrap(
+										DiskCachingMinecraftInterface.wrap(
+												MinecraftInterfaces.fromLocalProfile(launcherProfile, options),
+												options.getBiomeStoreDirectory()),
+										options.getBiomeCacheSizeInBytes()))),
+				options);
 	}
 
 	private final WorldBuilder worldBuilder;
 	private final LauncherProfile launcherProfile;
 	private final MinecraftInterface minecraftInterface;
+	private final MinecraftInterfaceOptions options;
 	private volatile World currentWorld = null;
 
 	public RunningLauncherProfile(
 			WorldBuilder worldBuilder,
 			LauncherProfile launcherProfile,
-			MinecraftInterface minecraftInterface) {
+			MinecraftInterface minecraftInterface,
+			MinecraftInterfaceOptions options) {
 		this.worldBuilder = worldBuilder;
 		this.launcherProfile = launcherProfile;
 		this.minecraftInterface = minecraftInterface;
+		this.options = options;
 	}
 
 	public LauncherProfile getLauncherProfile() {
@@ -49,7 +65,10 @@ public class RunningLauncherProfile {
 
 	public RunningLauncherProfile createSilentPlayerlessCopy() {
 		try {
-			return RunningLauncherProfile.from(WorldBuilder.createSilentPlayerless(), launcherProfile);
+			return RunningLauncherProfile.from(
+					WorldBuilder.createSilentPlayerless(),
+					launcherProfile,
+					options);
 		} catch (MinecraftInterfaceCreationException e) {
 			// This will not happen normally, because we already successfully
 			// created the same LocalMinecraftInterface once before.
@@ -66,7 +85,11 @@ public class RunningLauncherProfile {
 			throws IllegalStateException,
 			MinecraftInterfaceException {
 		if (currentWorld == null) {
-			currentWorld = worldBuilder.from(minecraftInterface, this::unlock, worldOptions);
+			currentWorld = worldBuilder.from(
+					minecraftInterface,
+					options.coalesceBiomeRequests(),
+					this::unlock,
+					worldOptions);
 			return currentWorld;
 		} else {
 			throw new IllegalStateException(
@@ -84,7 +107,11 @@ public class RunningLauncherProfile {
 			IOException,
 			MinecraftInterfaceException {
 		if (currentWorld == null) {
-			currentWorld = worldBuilder.fromSaveGame(minecraftInterface, this::unlock, saveGame);
+			currentWorld = worldBuilder.fromSaveGame(
+					minecraftInterface,
+					options.coalesceBiomeRequests(),
+					this::unlock,
+					saveGame);
 			return currentWorld;
 		} else {
 			throw new IllegalStateException(
@@ -92,6 +119,15 @@ public class RunningLauncherProfile {
 		}
 	}
 
+	/**
+	 * Closes the minecraft interface, which stops its worker processes and
+	 * releases the biome store. The worlds of this profile must not be used
+	 * afterwards.
+	 */
+	public void dispose() {
+		minecraftInterface.close();
+	}
+
 	private synchronized void unlock(World world) throws IllegalStateException {
 		if (currentWorld == world) {
 			currentWorld = null;
@@ -0,0 +1,166 @@
+package amidst.mojangapi.minecraftinterface;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import amidst.documentation.Immutable;
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Remembers the biome data that was generated for the current world, so
+ * overlapping requests of the fragment loaders, the structure producers and
+ * the spawn oracle do not generate the same biomes again.
+ *
+ * The least recently used tiles are dropped when the cache exceeds its size.
+ * Tiles are generated outside of the lock, so two threads might generate the
+ * same tile at the same time. The second result simply replaces the first
+ * one. However, a tile that was generated for the previous world must not be
+ * cached for the current world. Each tile remembers the world epoch from
+ * before it was generated and it is dropped if the epoch changed since then.
+ */
+@ThreadSafe
+public class CachingMinecraftInterface extends TilingMinecraftInterface {
+	@Immutable
+	private static class TileKey {
+		private final int tileX;
+		private final int tileY;
+		private final boolean useQuarterResolution;
+
+		public TileKey(int tileX, int tileY, boolean useQuarterResolution) {
+			this.tileX = tileX;
+			this.tileY = tileY;
+			this.useQuarterResolution = useQuarterResolution;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = 31 + tileX;
+			result = 31 * result + tileY;
+			return 31 * result + (useQuarterResolution ? 1 : 0);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (!(obj instanceof TileKey)) {
+				return false;
+			}
+			TileKey other = (TileKey) obj;
+			return tileX == other.tileX && tileY == other.tileY && useQuarterResolution == other.useQuarterResolution;
+		}
+	}
+
+	private final long maximumSizeInBytes;
+	private final LinkedHashMap<TileKey, int[]> tiles = new LinkedHashMap<>(16, 0.75f, true);
+	private long sizeInBytes = 0;
+	private long worldEpoch = 0;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public CachingMinecraftInterface(MinecraftInterface minecraftInterface, long maximumSizeInBytes) {
+		super(minecraftInterface);
+		this.maximumSizeInBytes = maximumSizeInBytes;
+	}
+
+	@Override
+	protected int[] getTile(int tileX, int tileY, boolean useQuarterResolution) throws MinecraftInterfaceException {
+		TileKey key = new TileKey(tileX, tileY, useQuarterResolution);
+		int[] tile = getCachedTile(key);
+		if (tile != null) {
+			hits.incrementAndGet();
+			return tile;
+		}
+		misses.incrementAndGet();
+		long epoch = getWorldEpoch();
+		tile = generateTile(tileX, tileY, useQuarterResolution);
+		putTile(epoch, key, tile);
+		return tile;
+	}
+
+	private synchronized long getWorldEpoch() {
+		return worldEpoch;
+	}
+
+	private synchronized int[] getCachedTile(TileKey key) {
+		return tiles.get(key);
+	}
+
+	private synchronized void putTile(long epoch, TileKey key, int[] tile) {
+		if (epoch != worldEpoch) {
+			return;
+		}
+		int[] previous = tiles.put(key, tile);
+		if (previous != null) {
+			sizeInBytes -= getSizeInBytes(previous);
+		}
+		sizeInBytes += getSizeInBytes(tile);
+		Iterator<int[]> iterator = tiles.values().iterator();
+		while (sizeInBytes > maximumSizeInBytes && iterator.hasNext()) {
+			sizeInBytes -= getSizeInBytes(iterator.next());
+			iterator.remove();
+		}
+	}
+
+	private synchronized void clear() {
+		worldEpoch++;
+		tiles.clear();
+		sizeInBytes = 0;
+	}
+
+	private static long getSizeInBytes(int[] tile) {
+		return 4L * tile.length;
+	}
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * The cached biome data belongs to the previous world, so it is dropped.
+	 * The cache is cleared before and after the wrapped minecraft interface
+	 * switches to the new world. Tiles of the previous world that are
+	 * generated in between are dropped by the second clear.
+	 */
+	@Override
+	public void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		logStatistics();
+		clear();
+		hits.set(0);
+		misses.set(0);
+		super.createWorld(seed, worldType, generatorOptions);
+		clear();
+	}
+
+	private void logStatistics() {
+		long hitCount = hits.get();
+		long missCount = misses.get();
+		if (hitCount + missCount > 0) {
+			AmidstLogger.info(
+					"Biome cache of the previous world: {} hits, {} misses, {}% hit rate",
+					hitCount,
+					missCount,
+					100 * hitCount / (hitCount + missCount));
+		}
+	}
+
+	/**
+	 * Returns the given minecraft interface, if the cache is disabled by a
+	 * maximum size of zero.
+	 */
+	public static MinecraftInterface wrap(MinecraftInterface minecraftInterface, long maximumSizeInBytes) {
+		if (maximumSizeInBytes > 0) {
+			return new CachingMinecraftInterface(minecraftInterface, maximumSizeInBytes);
+		} else {
+			return minecraftInterface;
+		}
+	}
+}
@@ -0,0 +1,413 @@
+package amidst.mojangapi.minecraftinterface;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import amidst.documentation.NotThreadSafe;
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Stores the generated biome data on disk, so it does not need to be generated
+ * again when the same world is opened later on. The biome data is stored per
+ * minecraft version, seed, world type and generator options.
+ *
+ * The tiles are grouped into region files of 16 x 16 tiles. Each region file
+ * starts with a header of a magic number and the format version, followed by
+ * one stamp per tile, followed by the tiles with one byte per biome. Tiles with
+ * biome ids that do not fit into a byte are not stored. The region files are
+ * memory-mapped, only the most recently used region files are kept open. An
+ * open region file is locked, so only one Amidst process writes to it. If
+ * another process holds the lock, the region file is only read.
+ *
+ * The stamp of a tile is zero if the tile is not stored. Otherwise, it
+ * contains the CRC32 checksum of the tile. A tile is read only if it matches
+ * its checksum, so the pages of a region file can reach the disk in any order
+ * and a tile that was only written partially is generated again. This is why
+ * the region files are not forced to the disk after each stored tile. Instead,
+ * all modified region files are forced in one batch when the world changes or
+ * when this minecraft interface is closed. This is done outside of the lock,
+ * so the other threads are not blocked by the disk. Region files that are
+ * closed because too many are open are left to the operating system.
+ *
+ * Tiles are generated outside of the lock, so two threads might generate and
+ * store the same tile at the same time. Both store the same data, so this does
+ * no harm. However, a tile that was generated for the previous world must not
+ * be stored for the current world. Each tile remembers the world epoch from
+ * before it was generated and it is dropped if the epoch changed since then.
+ */
+@ThreadSafe
+public class DiskCachingMinecraftInterface extends TilingMinecraftInterface {
+	@NotThreadSafe
+	private static class Region {
+		private final RandomAccessFile file;
+		private final FileLock lock;
+		private final MappedByteBuffer buffer;
+		private boolean isModified = false;
+
+		public Region(RandomAccessFile file, FileLock lock, MappedByteBuffer buffer) {
+			this.file = file;
+			this.lock = lock;
+			this.buffer = buffer;
+		}
+
+		public boolean isWritable() {
+			return lock != null;
+		}
+
+		public void setModified() {
+			isModified = true;
+		}
+
+		/**
+		 * Writes the modified pages to the disk before the lock is released.
+		 */
+		public void forceAndClose() {
+			if (isModified) {
+				buffer.force();
+			}
+			close();
+		}
+
+		/**
+		 * The mapping remains valid after the file is closed, but it is not
+		 * used afterwards. The operating system still writes the modified pages
+		 * to the disk.
+		 */
+		public void close() {
+			try {
+				if (lock != null) {
+					lock.release();
+				}
+				file.close();
+			} catch (IOException e) {
+				AmidstLogger.warn(e, "unable to close a region file of the biome store");
+			}
+		}
+	}
+
+	private static final int MAGIC_NUMBER = 0x414d4253;
+	private static final int FORMAT_VERSION = 2;
+	private static final int HEADER_SIZE = 8;
+	private static final int STAMP_SIZE = 8;
+	private static final long STORED_FLAG = 1L << 32;
+	private static final int REGION_SHIFT = 4;
+	private static final int TILES_PER_REGION = 1 << (2 * REGION_SHIFT);
+	private static final int MAXIMUM_OPEN_REGIONS = 64;
+
+	private final File rootDirectory;
+	@SuppressWarnings("serial")
+	private final Map<String, Region> regions = new LinkedHashMap<String, Region>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Region> eldest) {
+			if (size() > MAXIMUM_OPEN_REGIONS) {
+				eldest.getValue().close();
+				return true;
+			} else {
+				return false;
+			}
+		}
+	};
+	private File worldDirectory = null;
+	private long worldEpoch = 0;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public DiskCachingMinecraftInterface(MinecraftInterface minecraftInterface, File rootDirectory) {
+		super(minecraftInterface);
+		this.rootDirectory = rootDirectory;
+	}
+
+	@Override
+	protected int[] getTile(int tileX, int tileY, boolean useQuarterResolution) throws MinecraftInterfaceException {
+		int[] tile = readTile(tileX, tileY, useQuarterResolution);
+		if (tile != null) {
+			hits.incrementAndGet();
+			return tile;
+		}
+		misses.incrementAndGet();
+		long epoch = getWorldEpoch();
+		tile = generateTile(tileX, tileY, useQuarterResolution);
+		writeTile(epoch, tileX, tileY, useQuarterResolution, tile);
+		return tile;
+	}
+
+	private synchronized long getWorldEpoch() {
+		return worldEpoch;
+	}
+
+	private synchronized int[] readTile(int tileX, int tileY, boolean useQuarterResolution) {
+		Region region = getRegion(tileX, tileY, useQuarterResolution);
+		if (region == null) {
+			return null;
+		}
+		int index = getTileIndex(tileX, tileY);
+		long stamp = region.buffer.getLong(getStampOffset(index));
+		if (stamp == 0) {
+			return null;
+		}
+		int tileSize = 1 << getTileShift(useQuarterResolution);
+		byte[] bytes = new byte[tileSize * tileSize];
+		ByteBuffer buffer = region.buffer.duplicate();
+		buffer.position(getTileOffset(index, bytes.length));
+		buffer.get(bytes);
+		if (stamp != createStamp(bytes)) {
+			return null;
+		}
+		int[] tile = new int[bytes.length];
+		for (int i = 0; i < bytes.length; i++) {
+			tile[i] = bytes[i] & 0xFF;
+		}
+		return tile;
+	}
+
+	private synchronized void writeTile(long epoch, int tileX, int tileY, boolean useQuarterResolution, int[] tile) {
+		if (epoch != worldEpoch) {
+			return;
+		}
+		byte[] bytes = new byte[tile.length];
+		for (int i = 0; i < tile.length; i++) {
+			if (tile[i] < 0 || tile[i] > 0xFF) {
+				return;
+			}
+			bytes[i] = (byte) tile[i];
+		}
+		Region region = getRegion(tileX, tileY, useQuarterResolution);
+		if (region == null || !region.isWritable()) {
+			return;
+		}
+		int index = getTileIndex(tileX, tileY);
+		ByteBuffer buffer = region.buffer.duplicate();
+		buffer.position(getTileOffset(index, bytes.length));
+		buffer.put(bytes);
+		region.buffer.putLong(getStampOffset(index), createStamp(bytes));
+		region.setModified();
+	}
+
+	private static long createStamp(byte[] bytes) {
+		CRC32 checksum = new CRC32();
+		checksum.update(bytes);
+		return STORED_FLAG | checksum.getValue();
+	}
+
+	/**
+	 * Returns null if the store is disabled for the current world or if the
+	 * region file cannot be read.
+	 */
+	private Region getRegion(int tileX, int tileY, boolean useQuarterResolution) {
+		if (worldDirectory == null) {
+			return null;
+		}
+		String name = (useQuarterResolution ? "quarter" : "full") + "." + (tileX >> REGION_SHIFT) + "."
+				+ (tileY >> REGION_SHIFT) + ".bin";
+		Region region = regions.get(name);
+		if (region == null) {
+			int tileSize = 1 << getTileShift(useQuarterResolution);
+			try {
+				region = openRegion(new File(worldDirectory, name), getTileOffset(TILES_PER_REGION, tileSize * tileSize));
+				if (region != null) {
+					regions.put(name, region);
+				}
+			} catch (IOException e) {
+				AmidstLogger.warn(e, "unable to open the biome store, it is disabled for the current world");
+				worldDirectory = null;
+			}
+		}
+		return region;
+	}
+
+	/**
+	 * A region file that is locked by another process is only read, if it is
+	 * complete and valid. A locked region file with an unknown header is
+	 * discarded and created again.
+	 */
+	private Region openRegion(File file, long size) throws IOException {
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		try {
+			FileChannel channel = randomAccessFile.getChannel();
+			FileLock lock = tryLock(channel);
+			boolean isValid = randomAccessFile.length() == size && hasValidHeader(randomAccessFile);
+			if (lock == null && !isValid) {
+				randomAccessFile.close();
+				return null;
+			}
+			MappedByteBuffer buffer;
+			if (lock == null) {
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			} else if (isValid) {
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			} else {
+				randomAccessFile.setLength(0);
+				randomAccessFile.setLength(size);
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+				buffer.putInt(0, MAGIC_NUMBER);
+				buffer.putInt(4, FORMAT_VERSION);
+			}
+			return new Region(randomAccessFile, lock, buffer);
+		} catch (IOException | RuntimeException e) {
+			randomAccessFile.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns null if the file is locked by another process or by another
+	 * instance in this process.
+	 */
+	private FileLock tryLock(FileChannel channel) throws IOException {
+		try {
+			return channel.tryLock();
+		} catch (OverlappingFileLockException e) {
+			return null;
+		}
+	}
+
+	private boolean hasValidHeader(RandomAccessFile randomAccessFile) throws IOException {
+		randomAccessFile.seek(0);
+		return randomAccessFile.readInt() == MAGIC_NUMBER && randomAccessFile.readInt() == FORMAT_VERSION;
+	}
+
+	private static int getTileIndex(int tileX, int tileY) {
+		int mask = (1 << REGION_SHIFT) - 1;
+		return (tileX & mask) + ((tileY & mask) << REGION_SHIFT);
+	}
+
+	private static int getStampOffset(int index) {
+		return HEADER_SIZE + index * STAMP_SIZE;
+	}
+
+	private static int getTileOffset(int index, int tileLength) {
+		return HEADER_SIZE + TILES_PER_REGION * STAMP_SIZE + index * tileLength;
+	}
+
+	/**
+	 * The store is disabled for unknown minecraft versions, because different
+	 * unknown versions might generate different biomes for the same world.
+	 *
+	 * The world epoch is only advanced after the wrapped minecraft interface
+	 * switched to the new world. Otherwise, a tile of the previous world might
+	 * be generated after the epoch was read and stored for the new world.
+	 */
+	@Override
+	public void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		logStatistics();
+		hits.set(0);
+		misses.set(0);
+		setWorldDirectory(null);
+		super.createWorld(seed, worldType, generatorOptions);
+		RecognisedVersion recognisedVersion = getRecognisedVersion();
+		if (recognisedVersion != RecognisedVersion.UNKNOWN) {
+			setWorldDirectory(getWorldDirectory(recognisedVersion, seed, worldType, generatorOptions));
+		}
+	}
+
+	/**
+	 * The region files of the previous world are no longer reachable by the
+	 * other threads, so they are forced to the disk outside of the lock.
+	 */
+	private void setWorldDirectory(File worldDirectory) {
+		List<Region> previousRegions;
+		synchronized (this) {
+			worldEpoch++;
+			previousRegions = new ArrayList<>(regions.values());
+			regions.clear();
+			if (worldDirectory != null && !worldDirectory.isDirectory() && !worldDirectory.mkdirs()) {
+				AmidstLogger.warn("unable to create the biome store directory {}", worldDirectory);
+				this.worldDirectory = null;
+			} else {
+				this.worldDirectory = worldDirectory;
+			}
+		}
+		for (Region region : previousRegions) {
+			region.forceAndClose();
+		}
+	}
+
+	/**
+	 * Releases the locks of the region files, so other processes can write to
+	 * them.
+	 */
+	@Override
+	public void close() {
+		setWorldDirectory(null);
+		super.close();
+	}
+
+	private File getWorldDirectory(
+			RecognisedVersion recognisedVersion,
+			long seed,
+			WorldType worldType,
+			String generatorOptions) {
+		String name = seed + "_" + sanitize(worldType.getName());
+		if (!generatorOptions.isEmpty()) {
+			name += "_" + hash(generatorOptions);
+		}
+		return new File(new File(rootDirectory, sanitize(recognisedVersion.getName())), name);
+	}
+
+	private static String sanitize(String name) {
+		return name.replaceAll("[^A-Za-z0-9.\\-]", "_");
+	}
+
+	private static String hash(String generatorOptions) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(generatorOptions.getBytes(StandardCharsets.UTF_8));
+			StringBuilder result = new StringBuilder();
+			for (byte b : digest) {
+				result.append(String.format("%02x", b));
+			}
+			return result.toString();
+		} catch (NoSuchAlgorithmException e) {
+			// every java platform is required to support SHA-1
+			throw new RuntimeException(e);
+		}
+	}
+
+	private void logStatistics() {
+		long hitCount = hits.get();
+		long missCount = misses.get();
+		if (hitCount + missCount > 0) {
+			AmidstLogger.info(
+					"Biome store of the previous world: {} stored tiles read, {} tiles generated",
+					hitCount,
+					missCount);
+		}
+	}
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the given minecraft interface, if the store is disabled by a
+	 * null directory.
+	 */
+	public static MinecraftInterface wrap(MinecraftInterface minecraftInterface, File rootDirectory) {
+		if (rootDirectory != null) {
+			return new DiskCachingMinecraftInterface(minecraftInterface, rootDirectory);
+		} else {
+			return minecraftInterface;
+		}
+	}
+}
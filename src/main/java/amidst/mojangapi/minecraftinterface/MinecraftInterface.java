@@ -13,7 +13,7 @@ import amidst.mojangapi.world.WorldType;
  * One minecraft interface can only handle one world at a time.
  */
 @ThreadSafe
-public interface MinecraftInterface {
+public interface MinecraftInterface extends AutoCloseable {
 	/**
 	 * @param useQuarterResolution Minecraft calculates biomes at
 	 *            quarter-resolution, then noisily interpolates the biome-map up
@@ -34,7 +34,68 @@ public interface MinecraftInterface {
 	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
 			throws MinecraftInterfaceException;
 
+	/**
+	 * Like {@link #getBiomeData(int, int, int, int, boolean)}, but writes the
+	 * biome data to the given array instead of returning a new one. The biome
+	 * at (x + i, y + j) is written to result[offset + i + j * stride]. The
+	 * array is owned by the caller, so it can be reused for the next call.
+	 * 
+	 * The default implementation copies the result of the other method.
+	 * Implementations should override this to write the biome data directly.
+	 */
+	public default void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		int[] biomeData = getBiomeData(x, y, width, height, useQuarterResolution);
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(biomeData, j * width, result, offset + j * stride, width);
+		}
+	}
+
+	/**
+	 * Writes the quarter resolution biomes with a reduced level of detail to
+	 * the given array, like
+	 * {@link #getBiomeData(int, int, int, int, boolean, int[], int, int)}.
+	 * Each biome stands for 2^level by 2^level quarter resolution biomes, so
+	 * x, y, width and height are given in units of these squares. The biomes
+	 * only have to look like the quarter resolution biomes, they do not have
+	 * to match them exactly.
+	 * 
+	 * Returns false without writing anything, if this minecraft interface
+	 * cannot generate the biomes of the given level directly. In this case,
+	 * the caller has to sample the quarter resolution biomes instead. This is
+	 * the default, because the biome generators of Minecraft only generate the
+	 * quarter and the full resolution.
+	 */
+	public default boolean getCoarseBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			int level,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		return false;
+	}
+
 	public void createWorld(long seed, WorldType worldType, String generatorOptions) throws MinecraftInterfaceException;
 
 	public RecognisedVersion getRecognisedVersion();
+
+	/**
+	 * Releases the resources of this minecraft interface, like worker
+	 * processes or open files. It must not be used afterwards. Closing it
+	 * again does nothing. Minecraft interfaces that wrap another one close it
+	 * as well.
+	 */
+	@Override
+	public default void close() {
+	}
 }
@@ -0,0 +1,71 @@
+package amidst.mojangapi.minecraftinterface;
+
+import java.io.File;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Tells how the biomes of a launcher profile are generated.
+ */
+@Immutable
+public class MinecraftInterfaceOptions {
+	public static MinecraftInterfaceOptions createDefault() {
+		return new MinecraftInterfaceOptions(0, null, 1, false, false, false);
+	}
+
+	private final long biomeCacheSizeInBytes;
+	private final File biomeStoreDirectory;
+	private final int numberOfBiomeGenerators;
+	private final boolean useBiomeWorkerProcesses;
+	private final boolean useGenLayers;
+	private final boolean coalesceBiomeRequests;
+
+	/**
+	 * The biome cache is disabled, if biomeCacheSizeInBytes is zero. The biome
+	 * store is disabled, if biomeStoreDirectory is null. The biomes are
+	 * generated by numberOfBiomeGenerators independent minecraft interfaces,
+	 * which run in separate processes if useBiomeWorkerProcesses is true. If
+	 * useGenLayers is true, the biomes of the supported versions are generated
+	 * by the layers of Amidst instead of Minecraft. If coalesceBiomeRequests
+	 * is true, the biome checks of the structures are answered from one request
+	 * per fragment.
+	 */
+	public MinecraftInterfaceOptions(
+			long biomeCacheSizeInBytes,
+			File biomeStoreDirectory,
+			int numberOfBiomeGenerators,
+			boolean useBiomeWorkerProcesses,
+			boolean useGenLayers,
+			boolean coalesceBiomeRequests) {
+		this.biomeCacheSizeInBytes = biomeCacheSizeInBytes;
+		this.biomeStoreDirectory = biomeStoreDirectory;
+		this.numberOfBiomeGenerators = numberOfBiomeGenerators;
+		this.useBiomeWorkerProcesses = useBiomeWorkerProcesses;
+		this.useGenLayers = useGenLayers;
+		this.coalesceBiomeRequests = coalesceBiomeRequests;
+	}
+
+	public long getBiomeCacheSizeInBytes() {
+		return biomeCacheSizeInBytes;
+	}
+
+	public File getBiomeStoreDirectory() {
+		return biomeStoreDirectory;
+	}
+
+	public int getNumberOfBiomeGenerators() {
+		return numberOfBiomeGenerators;
+	}
+
+	public boolean useBiomeWorkerProcesses() {
+		return useBiomeWorkerProcesses;
+	}
+
+	public boolean useGenLayers() {
+		return useGenLayers;
+	}
+
+	public boolean coalesceBiomeRequests() {
+		return coalesceBiomeRequests;
+	}
+}
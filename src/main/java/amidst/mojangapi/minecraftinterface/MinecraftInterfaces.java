@@ -2,6 +2,8 @@ package amidst.mojangapi.minecraftinterface;
 
 import java.io.IOException;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import amidst.clazz.Classes;
@@ -12,16 +14,75 @@ import amidst.clazz.translator.ClassTranslator;
 import amidst.documentation.NotNull;
 import amidst.logging.AmidstLogger;
 import amidst.mojangapi.file.LauncherProfile;
+import amidst.mojangapi.minecraftinterface.genlayer.GenLayerMinecraftInterface;
 import amidst.mojangapi.minecraftinterface.legacy.LegacyClassTranslator;
 import amidst.mojangapi.minecraftinterface.legacy.LegacyMinecraftInterface;
 import amidst.mojangapi.minecraftinterface.local.DefaultClassTranslator;
 import amidst.mojangapi.minecraftinterface.local.LocalMinecraftInterface;
+import amidst.mojangapi.minecraftinterface.process.ProcessMinecraftInterface;
 
 public enum MinecraftInterfaces {
 	;
 	
 	private static final RecognisedVersion LAST_LEGACY_VERSION = RecognisedVersion._18w05a;
 	
+	/**
+	 * If the options request the layers of Amidst and they support the
+	 * version of the launcher profile, the minecraft jar file is only used to
+	 * recognise the version. Otherwise, if more than one biome generator is
+	 * requested, this loads the minecraft jar file that many times, each with
+	 * its own class loader, and distributes the requests to them. If the
+	 * options request worker processes, each instance is loaded in its own
+	 * worker process instead.
+	 */
+	@NotNull
+	public static MinecraftInterface fromLocalProfile(
+			LauncherProfile launcherProfile,
+			MinecraftInterfaceOptions options) throws MinecraftInterfaceCreationException {
+		if (options.useGenLayers()) {
+			RecognisedVersion recognisedVersion = recogniseVersion(launcherProfile);
+			if (GenLayerMinecraftInterface.isSupported(recognisedVersion)) {
+				AmidstLogger.info("Using the layers of Amidst to generate the biomes.");
+				return new GenLayerMinecraftInterface(recognisedVersion);
+			} else {
+				AmidstLogger.warn(
+						"The layers of Amidst do not support the version {}, using Minecraft to generate the biomes.",
+						recognisedVersion.getName());
+			}
+		}
+		int numberOfInstances = options.getNumberOfBiomeGenerators();
+		boolean useWorkerProcesses = options.useBiomeWorkerProcesses();
+		if (numberOfInstances <= 1 && !useWorkerProcesses) {
+			return fromLocalProfile(launcherProfile);
+		}
+		List<MinecraftInterface> minecraftInterfaces = new ArrayList<>(numberOfInstances);
+		try {
+			for (int i = 0; i < Math.max(1, numberOfInstances); i++) {
+				if (useWorkerProcesses) {
+					minecraftInterfaces.add(ProcessMinecraftInterface.start(launcherProfile));
+				} else {
+					minecraftInterfaces.add(fromLocalProfile(launcherProfile));
+				}
+			}
+		} catch (MinecraftInterfaceCreationException | RuntimeException e) {
+			// the worker processes that were already started would keep running
+			for (MinecraftInterface minecraftInterface : minecraftInterfaces) {
+				minecraftInterface.close();
+			}
+			throw e;
+		}
+		return new PooledMinecraftInterface(minecraftInterfaces);
+	}
+
+	private static RecognisedVersion recogniseVersion(LauncherProfile launcherProfile)
+			throws MinecraftInterfaceCreationException {
+		try {
+			return RecognisedVersion.from(launcherProfile.newClassLoader());
+		} catch (ClassNotFoundException | IOException e) {
+			throw new MinecraftInterfaceCreationException("unable to recognise the minecraft version", e);
+		}
+	}
+
 	@NotNull
 	public static MinecraftInterface fromLocalProfile(LauncherProfile launcherProfile)
 			throws MinecraftInterfaceCreationException {
@@ -0,0 +1,91 @@
+package amidst.mojangapi.minecraftinterface;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * The biome generators of Minecraft are not thread-safe, so each minecraft
+ * interface generates the biomes of only one request at a time. This
+ * distributes concurrent requests to several independent minecraft
+ * interfaces. Each of them has to use its own class loader, because the legacy
+ * biome generators share static state.
+ *
+ * Each request is passed to an idle minecraft interface. If all of them are
+ * busy, the request waits for the first one that becomes idle.
+ */
+@ThreadSafe
+public class PooledMinecraftInterface implements MinecraftInterface {
+	private final List<MinecraftInterface> minecraftInterfaces;
+	private final BlockingQueue<MinecraftInterface> idleMinecraftInterfaces;
+
+	public PooledMinecraftInterface(List<MinecraftInterface> minecraftInterfaces) {
+		this.minecraftInterfaces = minecraftInterfaces;
+		this.idleMinecraftInterfaces = new ArrayBlockingQueue<>(minecraftInterfaces.size(), false, minecraftInterfaces);
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		MinecraftInterface minecraftInterface = acquire();
+		try {
+			return minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution);
+		} finally {
+			idleMinecraftInterfaces.add(minecraftInterface);
+		}
+	}
+
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		MinecraftInterface minecraftInterface = acquire();
+		try {
+			minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution, result, offset, stride);
+		} finally {
+			idleMinecraftInterfaces.add(minecraftInterface);
+		}
+	}
+
+	private MinecraftInterface acquire() throws MinecraftInterfaceException {
+		try {
+			return idleMinecraftInterfaces.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MinecraftInterfaceException("interrupted while waiting for an idle minecraft interface", e);
+		}
+	}
+
+	/**
+	 * All minecraft interfaces create the same world, so it does not matter
+	 * which of them handles a request.
+	 */
+	@Override
+	public synchronized void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		for (MinecraftInterface minecraftInterface : minecraftInterfaces) {
+			minecraftInterface.createWorld(seed, worldType, generatorOptions);
+		}
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return minecraftInterfaces.get(0).getRecognisedVersion();
+	}
+
+	@Override
+	public void close() {
+		for (MinecraftInterface minecraftInterface : minecraftInterfaces) {
+			minecraftInterface.close();
+		}
+	}
+}
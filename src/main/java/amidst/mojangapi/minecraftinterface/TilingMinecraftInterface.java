@@ -0,0 +1,132 @@
+package amidst.mojangapi.minecraftinterface;
+
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Base class for minecraft interfaces that store the biome data in aligned
+ * square tiles. A request is assembled from all tiles that intersect it.
+ * Missing tiles are generated as a whole by the wrapped minecraft interface.
+ */
+@ThreadSafe
+public abstract class TilingMinecraftInterface implements MinecraftInterface {
+	/**
+	 * A fragment requests 128 x 128 quarter resolution biomes, so it consists
+	 * of exactly four quarter resolution tiles. The full resolution biomes are
+	 * usually requested in small areas around structures, so smaller tiles
+	 * waste less time on biomes that are never requested.
+	 */
+	private static final int QUARTER_RESOLUTION_TILE_SHIFT = 6;
+	private static final int FULL_RESOLUTION_TILE_SHIFT = 5;
+
+	private final MinecraftInterface inner;
+
+	public TilingMinecraftInterface(MinecraftInterface minecraftInterface) {
+		this.inner = minecraftInterface;
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		int[] result = new int[width * height];
+		getBiomeData(x, y, width, height, useQuarterResolution, result, 0, width);
+		return result;
+	}
+
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		if (width <= 0 || height <= 0) {
+			return;
+		}
+		int shift = getTileShift(useQuarterResolution);
+		int tileSize = 1 << shift;
+		int firstTileX = x >> shift;
+		int firstTileY = y >> shift;
+		int lastTileX = (x + width - 1) >> shift;
+		int lastTileY = (y + height - 1) >> shift;
+		for (int tileY = firstTileY; tileY <= lastTileY; tileY++) {
+			for (int tileX = firstTileX; tileX <= lastTileX; tileX++) {
+				int[] tile = getTile(tileX, tileY, useQuarterResolution);
+				int tileLeft = tileX << shift;
+				int tileTop = tileY << shift;
+				int left = Math.max(x, tileLeft);
+				int top = Math.max(y, tileTop);
+				int right = Math.min(x + width, tileLeft + tileSize);
+				int bottom = Math.min(y + height, tileTop + tileSize);
+				for (int row = top; row < bottom; row++) {
+					System.arraycopy(
+							tile,
+							(left - tileLeft) + (row - tileTop) * tileSize,
+							result,
+							offset + (left - x) + (row - y) * stride,
+							right - left);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The coarse biomes are cheap to generate, so they are not stored in
+	 * tiles.
+	 */
+	@Override
+	public boolean getCoarseBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			int level,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		return inner.getCoarseBiomeData(x, y, width, height, level, result, offset, stride);
+	}
+
+	/**
+	 * Returns the biome data of the given tile. The returned array must not be
+	 * modified.
+	 */
+	protected abstract int[] getTile(int tileX, int tileY, boolean useQuarterResolution)
+			throws MinecraftInterfaceException;
+
+	protected int[] generateTile(int tileX, int tileY, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		int shift = getTileShift(useQuarterResolution);
+		int tileSize = 1 << shift;
+		int[] tile = new int[tileSize * tileSize];
+		inner.getBiomeData(tileX << shift, tileY << shift, tileSize, tileSize, useQuarterResolution, tile, 0, tileSize);
+		return tile;
+	}
+
+	protected static int getTileShift(boolean useQuarterResolution) {
+		if (useQuarterResolution) {
+			return QUARTER_RESOLUTION_TILE_SHIFT;
+		} else {
+			return FULL_RESOLUTION_TILE_SHIFT;
+		}
+	}
+
+	@Override
+	public void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		inner.createWorld(seed, worldType, generatorOptions);
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return inner.getRecognisedVersion();
+	}
+
+	@Override
+	public void close() {
+		inner.close();
+	}
+}
@@ -0,0 +1,114 @@
+package amidst.mojangapi.minecraftinterface;
+
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.minecraftinterface.genlayer.GenLayerMinecraftInterface;
+import amidst.mojangapi.minecraftinterface.genlayer.LayerContext;
+import amidst.mojangapi.minecraftinterface.genlayer.VoronoiZoomLayer;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Minecraft derives the full resolution biomes from the quarter resolution
+ * biomes with a voronoi zoom that only depends on the world seed. This does
+ * the same zoom in Amidst, so a full resolution request only needs the
+ * quarter resolution biomes around it. Those usually come from the biome
+ * cache, so looking up the biome of a single block does not invoke the biome
+ * generator at all.
+ */
+@ThreadSafe
+public class VoronoiMinecraftInterface implements MinecraftInterface {
+	private final MinecraftInterface minecraftInterface;
+	private final ThreadLocal<LayerContext> contexts = ThreadLocal.withInitial(LayerContext::new);
+	private volatile VoronoiZoomLayer voronoiZoomLayer;
+
+	public VoronoiMinecraftInterface(MinecraftInterface minecraftInterface) {
+		this.minecraftInterface = minecraftInterface;
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		int[] result = new int[width * height];
+		getBiomeData(x, y, width, height, useQuarterResolution, result, 0, width);
+		return result;
+	}
+
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		VoronoiZoomLayer voronoiZoomLayer = this.voronoiZoomLayer;
+		if (useQuarterResolution || voronoiZoomLayer == null) {
+			minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution, result, offset, stride);
+			return;
+		}
+		LayerContext context = contexts.get();
+		context.reset();
+		int parentWidth = VoronoiZoomLayer.getParentWidth(width);
+		int parentHeight = VoronoiZoomLayer.getParentHeight(height);
+		int[] parentInts = context.getBuffer(parentWidth * parentHeight);
+		minecraftInterface.getBiomeData(
+				VoronoiZoomLayer.getParentX(x),
+				VoronoiZoomLayer.getParentZ(y),
+				parentWidth,
+				parentHeight,
+				true,
+				parentInts,
+				0,
+				parentWidth);
+		int[] biomeData = voronoiZoomLayer.zoom(context, parentInts, x, y, width, height);
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(biomeData, j * width, result, offset + j * stride, width);
+		}
+	}
+
+	@Override
+	public boolean getCoarseBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			int level,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		return minecraftInterface.getCoarseBiomeData(x, y, width, height, level, result, offset, stride);
+	}
+
+	@Override
+	public void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		minecraftInterface.createWorld(seed, worldType, generatorOptions);
+		VoronoiZoomLayer voronoiZoomLayer = new VoronoiZoomLayer(VoronoiZoomLayer.BASE_SEED, null);
+		voronoiZoomLayer.initWorldGenSeed(seed);
+		this.voronoiZoomLayer = voronoiZoomLayer;
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return minecraftInterface.getRecognisedVersion();
+	}
+
+	@Override
+	public void close() {
+		minecraftInterface.close();
+	}
+
+	/**
+	 * The voronoi zoom is only known to be the same for the versions that are
+	 * supported by the layers of Amidst. The given minecraft interface is
+	 * returned for all other versions.
+	 */
+	public static MinecraftInterface wrap(MinecraftInterface minecraftInterface) {
+		if (GenLayerMinecraftInterface.isSupported(minecraftInterface.getRecognisedVersion())) {
+			return new VoronoiMinecraftInterface(minecraftInterface);
+		} else {
+			return minecraftInterface;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+public class AddMushroomIslandLayer extends GenLayer {
+	public AddMushroomIslandLayer(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, z - 1, parentWidth, height + 2);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int a = parentInts[i + 0 + (j + 0) * parentWidth];
+				int b = parentInts[i + 2 + (j + 0) * parentWidth];
+				int c = parentInts[i + 0 + (j + 2) * parentWidth];
+				int d = parentInts[i + 2 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				initChunkSeed(context, i + x, j + z);
+				if (center == 0 && a == 0 && b == 0 && c == 0 && d == 0 && context.nextInt(100) == 0) {
+					result[i + j * width] = LayerBiomes.MUSHROOM_ISLAND;
+				} else {
+					result[i + j * width] = center;
+				}
+			}
+		}
+		return result;
+	}
+}
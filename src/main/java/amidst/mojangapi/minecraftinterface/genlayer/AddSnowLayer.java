@@ -0,0 +1,37 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+public class AddSnowLayer extends GenLayer {
+	public AddSnowLayer(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, z - 1, parentWidth, height + 2);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				initChunkSeed(context, i + x, j + z);
+				if (center == 0) {
+					result[i + j * width] = 0;
+				} else {
+					int climate = context.nextInt(6);
+					if (climate == 0) {
+						climate = 4;
+					} else if (climate <= 1) {
+						climate = 3;
+					} else {
+						climate = 1;
+					}
+					result[i + j * width] = climate;
+				}
+			}
+		}
+		return result;
+	}
+}
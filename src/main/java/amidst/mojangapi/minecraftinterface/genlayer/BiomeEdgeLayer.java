@@ -0,0 +1,86 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Adds transition biomes between biomes that should not be next to each
+ * other.
+ */
+@NotThreadSafe
+public class BiomeEdgeLayer extends GenLayer {
+	private final LayerBiomes biomes;
+
+	public BiomeEdgeLayer(long baseSeed, GenLayer parent, LayerBiomes biomes) {
+		super(baseSeed, parent);
+		this.biomes = biomes;
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, z - 1, parentWidth, height + 2);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				initChunkSeed(context, i + x, j + z);
+				int north = parentInts[i + 1 + (j + 0) * parentWidth];
+				int east = parentInts[i + 2 + (j + 1) * parentWidth];
+				int west = parentInts[i + 0 + (j + 1) * parentWidth];
+				int south = parentInts[i + 1 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				result[i + j * width] = getBiome(center, north, east, west, south);
+			}
+		}
+		return result;
+	}
+
+	private int getBiome(int center, int north, int east, int west, int south) {
+		if (biomes.biomesEqualOrMesaPlateau(center, LayerBiomes.EXTREME_HILLS)) {
+			// every existing biome can be next to the medium temperature of the extreme hills
+			if (LayerBiomes.exists(north) && LayerBiomes.exists(east) && LayerBiomes.exists(west)
+					&& LayerBiomes.exists(south)) {
+				return center;
+			} else {
+				return LayerBiomes.EXTREME_HILLS_EDGE;
+			}
+		} else if (center == LayerBiomes.MESA_PLATEAU_F) {
+			return replaceEdge(center, north, east, west, south, LayerBiomes.MESA);
+		} else if (center == LayerBiomes.MESA_PLATEAU) {
+			return replaceEdge(center, north, east, west, south, LayerBiomes.MESA);
+		} else if (center == LayerBiomes.MEGA_TAIGA) {
+			return replaceEdge(center, north, east, west, south, LayerBiomes.TAIGA);
+		} else if (center == LayerBiomes.DESERT) {
+			if (north == LayerBiomes.ICE_PLAINS || east == LayerBiomes.ICE_PLAINS || west == LayerBiomes.ICE_PLAINS
+					|| south == LayerBiomes.ICE_PLAINS) {
+				return LayerBiomes.EXTREME_HILLS_PLUS;
+			} else {
+				return center;
+			}
+		} else if (center == LayerBiomes.SWAMPLAND) {
+			if (isAny(LayerBiomes.DESERT, north, east, west, south)
+					|| isAny(LayerBiomes.COLD_TAIGA, north, east, west, south)
+					|| isAny(LayerBiomes.ICE_PLAINS, north, east, west, south)) {
+				return LayerBiomes.PLAINS;
+			} else if (isAny(LayerBiomes.JUNGLE, north, east, west, south)) {
+				return LayerBiomes.JUNGLE_EDGE;
+			} else {
+				return center;
+			}
+		} else {
+			return center;
+		}
+	}
+
+	private int replaceEdge(int center, int north, int east, int west, int south, int replacement) {
+		if (biomes.biomesEqualOrMesaPlateau(north, center) && biomes.biomesEqualOrMesaPlateau(east, center)
+				&& biomes.biomesEqualOrMesaPlateau(west, center) && biomes.biomesEqualOrMesaPlateau(south, center)) {
+			return center;
+		} else {
+			return replacement;
+		}
+	}
+
+	private static boolean isAny(int biome, int north, int east, int west, int south) {
+		return north == biome || east == biome || west == biome || south == biome;
+	}
+}
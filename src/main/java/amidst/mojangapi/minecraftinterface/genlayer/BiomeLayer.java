@@ -0,0 +1,79 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Turns the climates into biomes. The special bits that were set by the
+ * special edge layer select the rare biomes of the climate.
+ */
+@NotThreadSafe
+public class BiomeLayer extends GenLayer {
+	// @formatter:off
+	private static final int[] WARM_BIOMES = {
+			LayerBiomes.DESERT, LayerBiomes.DESERT, LayerBiomes.DESERT,
+			LayerBiomes.SAVANNA, LayerBiomes.SAVANNA, LayerBiomes.PLAINS };
+	private static final int[] MEDIUM_BIOMES = {
+			LayerBiomes.FOREST, LayerBiomes.ROOFED_FOREST, LayerBiomes.EXTREME_HILLS,
+			LayerBiomes.PLAINS, LayerBiomes.BIRCH_FOREST, LayerBiomes.SWAMPLAND };
+	private static final int[] COLD_BIOMES = {
+			LayerBiomes.FOREST, LayerBiomes.EXTREME_HILLS, LayerBiomes.TAIGA, LayerBiomes.PLAINS };
+	private static final int[] ICE_BIOMES = {
+			LayerBiomes.ICE_PLAINS, LayerBiomes.ICE_PLAINS, LayerBiomes.ICE_PLAINS, LayerBiomes.COLD_TAIGA };
+	// @formatter:on
+
+	private final int fixedBiome;
+
+	/**
+	 * @param fixedBiome the biome of the whole world, or -1
+	 */
+	public BiomeLayer(long baseSeed, GenLayer parent, int fixedBiome) {
+		super(baseSeed, parent);
+		this.fixedBiome = fixedBiome;
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int[] parentInts = parent.getInts(context, x, z, width, height);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				initChunkSeed(context, i + x, j + z);
+				int climate = parentInts[i + j * width];
+				boolean isSpecial = (climate & 0xF00) >> 8 > 0;
+				climate &= ~0xF00;
+				result[i + j * width] = getBiome(context, climate, isSpecial);
+			}
+		}
+		return result;
+	}
+
+	private int getBiome(LayerContext context, int climate, boolean isSpecial) {
+		if (fixedBiome >= 0) {
+			return fixedBiome;
+		} else if (LayerBiomes.isOceanic(climate) || climate == LayerBiomes.MUSHROOM_ISLAND) {
+			return climate;
+		} else if (climate == 1) {
+			if (isSpecial) {
+				return context.nextInt(3) == 0 ? LayerBiomes.MESA_PLATEAU : LayerBiomes.MESA_PLATEAU_F;
+			} else {
+				return WARM_BIOMES[context.nextInt(WARM_BIOMES.length)];
+			}
+		} else if (climate == 2) {
+			if (isSpecial) {
+				return LayerBiomes.JUNGLE;
+			} else {
+				return MEDIUM_BIOMES[context.nextInt(MEDIUM_BIOMES.length)];
+			}
+		} else if (climate == 3) {
+			if (isSpecial) {
+				return LayerBiomes.MEGA_TAIGA;
+			} else {
+				return COLD_BIOMES[context.nextInt(COLD_BIOMES.length)];
+			}
+		} else if (climate == 4) {
+			return ICE_BIOMES[context.nextInt(ICE_BIOMES.length)];
+		} else {
+			return LayerBiomes.MUSHROOM_ISLAND;
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+public class DeepOceanLayer extends GenLayer {
+	public DeepOceanLayer(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, z - 1, parentWidth, height + 2);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int north = parentInts[i + 1 + (j + 0) * parentWidth];
+				int east = parentInts[i + 2 + (j + 1) * parentWidth];
+				int west = parentInts[i + 0 + (j + 1) * parentWidth];
+				int south = parentInts[i + 1 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				int oceans = 0;
+				if (north == 0) {
+					oceans++;
+				}
+				if (east == 0) {
+					oceans++;
+				}
+				if (west == 0) {
+					oceans++;
+				}
+				if (south == 0) {
+					oceans++;
+				}
+				if (center == 0 && oceans > 3) {
+					result[i + j * width] = LayerBiomes.DEEP_OCEAN;
+				} else {
+					result[i + j * width] = center;
+				}
+			}
+		}
+		return result;
+	}
+}
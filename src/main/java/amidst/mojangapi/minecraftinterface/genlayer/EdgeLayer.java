@@ -0,0 +1,87 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Separates warm and cold climates and marks special climates, which later
+ * become the rare biomes like jungles and mesas.
+ */
+@NotThreadSafe
+public class EdgeLayer extends GenLayer {
+	public static enum Mode {
+		COOL_WARM,
+		HEAT_ICE,
+		SPECIAL;
+	}
+
+	private final Mode mode;
+
+	public EdgeLayer(long baseSeed, GenLayer parent, Mode mode) {
+		super(baseSeed, parent);
+		this.mode = mode;
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		switch (mode) {
+		case COOL_WARM:
+			return getIntsReplacingNextTo(context, x, z, width, height, 1, 3, 4, 2);
+		case HEAT_ICE:
+			return getIntsReplacingNextTo(context, x, z, width, height, 4, 2, 1, 3);
+		default:
+			return getIntsSpecial(context, x, z, width, height);
+		}
+	}
+
+	/**
+	 * Replaces each climate that is next to one of the two given climates.
+	 */
+	private int[] getIntsReplacingNextTo(
+			LayerContext context,
+			int x,
+			int z,
+			int width,
+			int height,
+			int climate,
+			int neighbor1,
+			int neighbor2,
+			int replacement) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, z - 1, parentWidth, height + 2);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				initChunkSeed(context, i + x, j + z);
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				if (center == climate) {
+					int north = parentInts[i + 1 + (j + 0) * parentWidth];
+					int east = parentInts[i + 2 + (j + 1) * parentWidth];
+					int west = parentInts[i + 0 + (j + 1) * parentWidth];
+					int south = parentInts[i + 1 + (j + 2) * parentWidth];
+					if (north == neighbor1 || east == neighbor1 || west == neighbor1 || south == neighbor1
+							|| north == neighbor2 || east == neighbor2 || west == neighbor2 || south == neighbor2) {
+						center = replacement;
+					}
+				}
+				result[i + j * width] = center;
+			}
+		}
+		return result;
+	}
+
+	private int[] getIntsSpecial(LayerContext context, int x, int z, int width, int height) {
+		int[] parentInts = parent.getInts(context, x, z, width, height);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				initChunkSeed(context, i + x, j + z);
+				int value = parentInts[i + j * width];
+				if (value != 0 && context.nextInt(13) == 0) {
+					value |= (1 + context.nextInt(15)) << 8 & 0xF00;
+				}
+				result[i + j * width] = value;
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,44 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * A layer of the biome generator of Minecraft 1.7 to 1.12. The layers only
+ * change while the world seed is set. Afterwards, they can be used by several
+ * threads at once, each with its own {@link LayerContext}.
+ */
+@NotThreadSafe
+public abstract class GenLayer {
+	protected final GenLayer parent;
+	private final long baseSeed;
+	private long worldGenSeed;
+
+	public GenLayer(long baseSeed, GenLayer parent) {
+		this.parent = parent;
+		long seed = baseSeed;
+		seed = LayerContext.mixSeed(seed, baseSeed);
+		seed = LayerContext.mixSeed(seed, baseSeed);
+		seed = LayerContext.mixSeed(seed, baseSeed);
+		this.baseSeed = seed;
+	}
+
+	public void initWorldGenSeed(long seed) {
+		if (parent != null) {
+			parent.initWorldGenSeed(seed);
+		}
+		worldGenSeed = seed;
+		worldGenSeed = LayerContext.mixSeed(worldGenSeed, baseSeed);
+		worldGenSeed = LayerContext.mixSeed(worldGenSeed, baseSeed);
+		worldGenSeed = LayerContext.mixSeed(worldGenSeed, baseSeed);
+	}
+
+	protected void initChunkSeed(LayerContext context, long x, long z) {
+		context.initChunkSeed(worldGenSeed, x, z);
+	}
+
+	/**
+	 * The result is stored in the first width * height elements of the
+	 * returned array, row by row.
+	 */
+	public abstract int[] getInts(LayerContext context, int x, int z, int width, int height);
+}
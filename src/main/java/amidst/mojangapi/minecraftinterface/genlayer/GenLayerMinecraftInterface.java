@@ -0,0 +1,129 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldType;
+import amidst.parsing.FormatException;
+import amidst.parsing.json.JsonReader;
+
+/**
+ * Generates the biomes of Minecraft 1.7 to 1.12 without Minecraft. The layers
+ * are a reimplementation of the layers of Minecraft, so they generate exactly
+ * the same biomes. Unlike the biome generators of Minecraft, they can be used
+ * by several threads at once. Each thread reuses its buffers, so a request
+ * does not allocate anything, except for the result array of
+ * {@link #getBiomeData(int, int, int, int, boolean)}. The coarse biomes are
+ * taken from the layers before the last zoom layers, see
+ * {@link LayerStack#getCoarse(int)}.
+ */
+@ThreadSafe
+public class GenLayerMinecraftInterface implements MinecraftInterface {
+	private static final RecognisedVersion FIRST_SUPPORTED_VERSION = RecognisedVersion._1_7_2;
+	private static final RecognisedVersion LAST_SUPPORTED_VERSION = RecognisedVersion._1_12_2;
+
+	public static boolean isSupported(RecognisedVersion recognisedVersion) {
+		return RecognisedVersion.isNewerOrEqualTo(recognisedVersion, FIRST_SUPPORTED_VERSION)
+				&& RecognisedVersion.isOlderOrEqualTo(recognisedVersion, LAST_SUPPORTED_VERSION);
+	}
+
+	private final RecognisedVersion recognisedVersion;
+	private final ThreadLocal<LayerContext> contexts = ThreadLocal.withInitial(LayerContext::new);
+	private volatile LayerStack layerStack;
+
+	public GenLayerMinecraftInterface(RecognisedVersion recognisedVersion) {
+		this.recognisedVersion = recognisedVersion;
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		int[] result = new int[width * height];
+		getBiomeData(x, y, width, height, useQuarterResolution, result, 0, width);
+		return result;
+	}
+
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		LayerStack layerStack = this.layerStack;
+		if (layerStack == null) {
+			throw new MinecraftInterfaceException("no world was created");
+		}
+		copyToResult(layerStack.get(useQuarterResolution), x, y, width, height, result, offset, stride);
+	}
+
+	@Override
+	public boolean getCoarseBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			int level,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		LayerStack layerStack = this.layerStack;
+		if (layerStack == null) {
+			throw new MinecraftInterfaceException("no world was created");
+		}
+		GenLayer layer = layerStack.getCoarse(level);
+		if (layer == null) {
+			return false;
+		}
+		copyToResult(layer, x, y, width, height, result, offset, stride);
+		return true;
+	}
+
+	private void copyToResult(
+			GenLayer layer,
+			int x,
+			int y,
+			int width,
+			int height,
+			int[] result,
+			int offset,
+			int stride) {
+		LayerContext context = contexts.get();
+		context.reset();
+		int[] biomeData = layer.getInts(context, x, y, width, height);
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(biomeData, j * width, result, offset + j * stride, width);
+		}
+	}
+
+	@Override
+	public void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		layerStack = LayerStack.create(seed, worldType, getGeneratorOptions(worldType, generatorOptions), recognisedVersion);
+	}
+
+	/**
+	 * Like Minecraft, this only uses the generator options of customized
+	 * worlds.
+	 */
+	private GeneratorOptionsJson getGeneratorOptions(WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		if (worldType != WorldType.CUSTOMIZED || generatorOptions.isEmpty()) {
+			return null;
+		}
+		try {
+			return JsonReader.readString(generatorOptions, GeneratorOptionsJson.class);
+		} catch (FormatException e) {
+			throw new MinecraftInterfaceException("unable to parse the generator options", e);
+		}
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return recognisedVersion;
+	}
+}
@@ -0,0 +1,31 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.GsonConstructor;
+import amidst.documentation.Immutable;
+
+/**
+ * The generator options of customized worlds, as far as they are used by the
+ * layers.
+ */
+@Immutable
+public class GeneratorOptionsJson {
+	private volatile int biomeSize = 4;
+	private volatile int riverSize = 4;
+	private volatile int fixedBiome = -1;
+
+	@GsonConstructor
+	public GeneratorOptionsJson() {
+	}
+
+	public int getBiomeSize() {
+		return biomeSize;
+	}
+
+	public int getRiverSize() {
+		return riverSize;
+	}
+
+	public int getFixedBiome() {
+		return fixedBiome;
+	}
+}
@@ -0,0 +1,108 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Adds hills and mutated biomes. The river noise decides where they appear.
+ * Like in Minecraft, the world seed is not passed to the river layer, so its
+ * own zoom layers keep a world seed of zero.
+ */
+@NotThreadSafe
+public class HillsLayer extends GenLayer {
+	private final GenLayer riverLayer;
+	private final LayerBiomes biomes;
+
+	public HillsLayer(long baseSeed, GenLayer parent, GenLayer riverLayer, LayerBiomes biomes) {
+		super(baseSeed, parent);
+		this.riverLayer = riverLayer;
+		this.biomes = biomes;
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, z - 1, parentWidth, height + 2);
+		int[] riverInts = riverLayer.getInts(context, x - 1, z - 1, parentWidth, height + 2);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				initChunkSeed(context, i + x, j + z);
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				int river = riverInts[i + 1 + (j + 1) * parentWidth];
+				boolean isMutatedHill = (river - 2) % 29 == 0;
+				if (center != 0 && river >= 2 && (river - 2) % 29 == 1 && center < LayerBiomes.MUTATION_OFFSET) {
+					result[i + j * width] = biomes.getMutation(center, center);
+				} else if (context.nextInt(3) != 0 && !isMutatedHill) {
+					result[i + j * width] = center;
+				} else {
+					int hill = getHill(context, center);
+					if (isMutatedHill && hill != center) {
+						hill = biomes.getMutation(hill, center);
+					}
+					if (hill == center) {
+						result[i + j * width] = center;
+					} else {
+						int north = parentInts[i + 1 + (j + 0) * parentWidth];
+						int east = parentInts[i + 2 + (j + 1) * parentWidth];
+						int west = parentInts[i + 0 + (j + 1) * parentWidth];
+						int south = parentInts[i + 1 + (j + 2) * parentWidth];
+						int equalNeighbors = 0;
+						if (biomes.biomesEqualOrMesaPlateau(north, center)) {
+							equalNeighbors++;
+						}
+						if (biomes.biomesEqualOrMesaPlateau(east, center)) {
+							equalNeighbors++;
+						}
+						if (biomes.biomesEqualOrMesaPlateau(west, center)) {
+							equalNeighbors++;
+						}
+						if (biomes.biomesEqualOrMesaPlateau(south, center)) {
+							equalNeighbors++;
+						}
+						result[i + j * width] = equalNeighbors >= 3 ? hill : center;
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	private int getHill(LayerContext context, int center) {
+		switch (center) {
+		case LayerBiomes.DESERT:
+			return LayerBiomes.DESERT_HILLS;
+		case LayerBiomes.FOREST:
+			return LayerBiomes.FOREST_HILLS;
+		case LayerBiomes.BIRCH_FOREST:
+			return LayerBiomes.BIRCH_FOREST_HILLS;
+		case LayerBiomes.ROOFED_FOREST:
+			return LayerBiomes.PLAINS;
+		case LayerBiomes.TAIGA:
+			return LayerBiomes.TAIGA_HILLS;
+		case LayerBiomes.MEGA_TAIGA:
+			return LayerBiomes.MEGA_TAIGA_HILLS;
+		case LayerBiomes.COLD_TAIGA:
+			return LayerBiomes.COLD_TAIGA_HILLS;
+		case LayerBiomes.PLAINS:
+			return context.nextInt(3) == 0 ? LayerBiomes.FOREST_HILLS : LayerBiomes.FOREST;
+		case LayerBiomes.ICE_PLAINS:
+			return LayerBiomes.ICE_MOUNTAINS;
+		case LayerBiomes.JUNGLE:
+			return LayerBiomes.JUNGLE_HILLS;
+		case LayerBiomes.OCEAN:
+			return LayerBiomes.DEEP_OCEAN;
+		case LayerBiomes.EXTREME_HILLS:
+			return LayerBiomes.EXTREME_HILLS_PLUS;
+		case LayerBiomes.SAVANNA:
+			return LayerBiomes.SAVANNA_PLATEAU;
+		default:
+			if (biomes.biomesEqualOrMesaPlateau(center, LayerBiomes.MESA_PLATEAU_F)) {
+				return LayerBiomes.MESA;
+			} else if (center == LayerBiomes.DEEP_OCEAN && context.nextInt(3) == 0) {
+				return context.nextInt(2) == 0 ? LayerBiomes.PLAINS : LayerBiomes.FOREST;
+			} else {
+				return center;
+			}
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+public class IslandLayer extends GenLayer {
+	public IslandLayer(long baseSeed) {
+		super(baseSeed, null);
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				initChunkSeed(context, x + i, z + j);
+				result[i + j * width] = context.nextInt(10) == 0 ? 1 : 0;
+			}
+		}
+		if (x > -width && x <= 0 && z > -height && z <= 0) {
+			result[-x + -z * width] = 1;
+		}
+		return result;
+	}
+}
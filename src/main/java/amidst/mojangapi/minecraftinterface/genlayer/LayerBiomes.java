@@ -0,0 +1,217 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.Immutable;
+
+/**
+ * The biome ids and biome properties that are used by the layers.
+ *
+ * Minecraft compares biomes by their java class in some layers. Before 1.9,
+ * some mutated biomes were instances of a generic mutated biome class, which
+ * made the comparison asymmetric: the mutated biome considers itself equal to
+ * the biomes of its base class, but not the other way around. Since 1.9, most
+ * mutated biomes have the class of their base biome.
+ */
+@Immutable
+public class LayerBiomes {
+	// @formatter:off
+	public static final int OCEAN                 =   0;
+	public static final int PLAINS                =   1;
+	public static final int DESERT                =   2;
+	public static final int EXTREME_HILLS         =   3;
+	public static final int FOREST                =   4;
+	public static final int TAIGA                 =   5;
+	public static final int SWAMPLAND             =   6;
+	public static final int RIVER                 =   7;
+	public static final int FROZEN_OCEAN          =  10;
+	public static final int FROZEN_RIVER          =  11;
+	public static final int ICE_PLAINS            =  12;
+	public static final int ICE_MOUNTAINS         =  13;
+	public static final int MUSHROOM_ISLAND       =  14;
+	public static final int MUSHROOM_ISLAND_SHORE =  15;
+	public static final int BEACH                 =  16;
+	public static final int DESERT_HILLS          =  17;
+	public static final int FOREST_HILLS          =  18;
+	public static final int TAIGA_HILLS           =  19;
+	public static final int EXTREME_HILLS_EDGE    =  20;
+	public static final int JUNGLE                =  21;
+	public static final int JUNGLE_HILLS          =  22;
+	public static final int JUNGLE_EDGE           =  23;
+	public static final int DEEP_OCEAN            =  24;
+	public static final int STONE_BEACH           =  25;
+	public static final int COLD_BEACH            =  26;
+	public static final int BIRCH_FOREST          =  27;
+	public static final int BIRCH_FOREST_HILLS    =  28;
+	public static final int ROOFED_FOREST         =  29;
+	public static final int COLD_TAIGA            =  30;
+	public static final int COLD_TAIGA_HILLS      =  31;
+	public static final int MEGA_TAIGA            =  32;
+	public static final int MEGA_TAIGA_HILLS      =  33;
+	public static final int EXTREME_HILLS_PLUS    =  34;
+	public static final int SAVANNA               =  35;
+	public static final int SAVANNA_PLATEAU       =  36;
+	public static final int MESA                  =  37;
+	public static final int MESA_PLATEAU_F        =  38;
+	public static final int MESA_PLATEAU          =  39;
+	public static final int SUNFLOWER_PLAINS      = 129;
+
+	public static final int MUTATION_OFFSET       = 128;
+
+	private static final int C_NONE      =  0;
+	private static final int C_OCEAN     =  1;
+	private static final int C_PLAINS    =  2;
+	private static final int C_DESERT    =  3;
+	private static final int C_HILLS     =  4;
+	private static final int C_FOREST    =  5;
+	private static final int C_TAIGA     =  6;
+	private static final int C_SWAMP     =  7;
+	private static final int C_RIVER     =  8;
+	private static final int C_HELL      =  9;
+	private static final int C_END       = 10;
+	private static final int C_SNOW      = 11;
+	private static final int C_MUSHROOM  = 12;
+	private static final int C_BEACH     = 13;
+	private static final int C_JUNGLE    = 14;
+	private static final int C_STONE     = 15;
+	private static final int C_SAVANNA   = 16;
+	private static final int C_MESA      = 17;
+	private static final int C_VOID      = 18;
+	private static final int C_FOREST_M  = 19;
+	private static final int C_SAVANNA_M = 20;
+
+	/**
+	 * The class of each biome since 1.9, C_NONE if the biome does not exist.
+	 */
+	private static final int[] CLASSES = new int[256];
+
+	/**
+	 * Before 1.9, these mutated biomes were instances of the generic mutated
+	 * biome class.
+	 */
+	private static final int[] GENERIC_MUTATIONS_BEFORE_1_9 = {
+			130, 133, 134, 149, 151, 155, 156, 157, 158, 163, 164 };
+	// @formatter:on
+
+	private static final boolean[] IS_GENERIC_MUTATION_BEFORE_1_9 = new boolean[256];
+	private static final boolean[] IS_SNOWY = new boolean[256];
+
+	static {
+		setClass(C_OCEAN, OCEAN, FROZEN_OCEAN, DEEP_OCEAN);
+		setClass(C_PLAINS, PLAINS, SUNFLOWER_PLAINS);
+		setClass(C_DESERT, DESERT, DESERT_HILLS, 130);
+		setClass(C_HILLS, EXTREME_HILLS, EXTREME_HILLS_EDGE, EXTREME_HILLS_PLUS, 131, 162);
+		setClass(C_FOREST, FOREST, FOREST_HILLS, BIRCH_FOREST, BIRCH_FOREST_HILLS, ROOFED_FOREST, 132, 157);
+		setClass(C_TAIGA, TAIGA, TAIGA_HILLS, COLD_TAIGA, COLD_TAIGA_HILLS, MEGA_TAIGA, MEGA_TAIGA_HILLS, 133, 158, 160, 161);
+		setClass(C_SWAMP, SWAMPLAND, 134);
+		setClass(C_RIVER, RIVER, FROZEN_RIVER);
+		setClass(C_HELL, 8);
+		setClass(C_END, 9);
+		setClass(C_SNOW, ICE_PLAINS, ICE_MOUNTAINS, 140);
+		setClass(C_MUSHROOM, MUSHROOM_ISLAND, MUSHROOM_ISLAND_SHORE);
+		setClass(C_BEACH, BEACH, COLD_BEACH);
+		setClass(C_JUNGLE, JUNGLE, JUNGLE_HILLS, JUNGLE_EDGE, 149, 151);
+		setClass(C_STONE, STONE_BEACH);
+		setClass(C_SAVANNA, SAVANNA, SAVANNA_PLATEAU);
+		setClass(C_MESA, MESA, MESA_PLATEAU_F, MESA_PLATEAU, 165, 166, 167);
+		setClass(C_VOID, 127);
+		setClass(C_FOREST_M, 155, 156);
+		setClass(C_SAVANNA_M, 163, 164);
+		for (int id : GENERIC_MUTATIONS_BEFORE_1_9) {
+			IS_GENERIC_MUTATION_BEFORE_1_9[id] = true;
+		}
+		for (int id : new int[] { FROZEN_OCEAN, FROZEN_RIVER, ICE_PLAINS, ICE_MOUNTAINS, COLD_BEACH, COLD_TAIGA,
+				COLD_TAIGA_HILLS, 140, 158 }) {
+			IS_SNOWY[id] = true;
+		}
+	}
+
+	private static void setClass(int biomeClass, int... ids) {
+		for (int id : ids) {
+			CLASSES[id] = biomeClass;
+		}
+	}
+
+	private final boolean hasGenericMutations;
+	private final boolean hasBrokenBirchForestMutation;
+
+	/**
+	 * @param hasGenericMutations true for the versions before 1.9
+	 * @param hasBrokenBirchForestMutation true for 1.9-pre2 to 1.10.2, where the
+	 *            birch forest hills M is registered as the mutation of the
+	 *            birch forest, so the birch forest hills have no mutation
+	 */
+	public LayerBiomes(boolean hasGenericMutations, boolean hasBrokenBirchForestMutation) {
+		this.hasGenericMutations = hasGenericMutations;
+		this.hasBrokenBirchForestMutation = hasBrokenBirchForestMutation;
+	}
+
+	public static boolean exists(int id) {
+		return id >= 0 && id < CLASSES.length && CLASSES[id] != C_NONE;
+	}
+
+	public static boolean isOceanic(int id) {
+		return id == OCEAN || id == DEEP_OCEAN || id == FROZEN_OCEAN;
+	}
+
+	public static boolean isSnowy(int id) {
+		return id >= 0 && id < IS_SNOWY.length && IS_SNOWY[id];
+	}
+
+	public static boolean isMesa(int id) {
+		return exists(id) && CLASSES[id] == C_MESA;
+	}
+
+	/**
+	 * Returns the fallback if the biome has no mutation.
+	 */
+	public int getMutation(int id, int fallback) {
+		if (hasBrokenBirchForestMutation && id == BIRCH_FOREST) {
+			return BIRCH_FOREST_HILLS + MUTATION_OFFSET;
+		} else if (hasBrokenBirchForestMutation && id == BIRCH_FOREST_HILLS) {
+			return fallback;
+		} else if (exists(id + MUTATION_OFFSET)) {
+			return id + MUTATION_OFFSET;
+		} else {
+			return fallback;
+		}
+	}
+
+	/**
+	 * Each generic mutation has its own class, so it is only equal to itself.
+	 */
+	private int getClass(int id) {
+		if (hasGenericMutations && IS_GENERIC_MUTATION_BEFORE_1_9[id]) {
+			return -id;
+		} else {
+			return CLASSES[id];
+		}
+	}
+
+	public boolean isJungle(int id) {
+		return exists(id) && getClass(id) == C_JUNGLE;
+	}
+
+	/**
+	 * Before 1.9, a generic mutation compares the class of its base biome.
+	 */
+	private boolean isEqualTo(int a, int b) {
+		if (a == b) {
+			return true;
+		} else if (hasGenericMutations && IS_GENERIC_MUTATION_BEFORE_1_9[a]) {
+			return isEqualTo(a - MUTATION_OFFSET, b);
+		} else {
+			return getClass(a) == getClass(b);
+		}
+	}
+
+	public boolean biomesEqualOrMesaPlateau(int a, int b) {
+		if (a == b) {
+			return true;
+		} else if (a == MESA_PLATEAU_F || a == MESA_PLATEAU) {
+			return b == MESA_PLATEAU_F || b == MESA_PLATEAU;
+		} else if (exists(a) && exists(b)) {
+			return isEqualTo(a, b);
+		} else {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import java.util.Arrays;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * The per-thread state of a request: the random number generator of the
+ * layers and the buffers for their results. The buffers are kept between the
+ * requests, so a request of the same size as a previous one does not allocate
+ * anything. This replaces the IntCache and the chunk seed of Minecraft.
+ */
+@NotThreadSafe
+public class LayerContext {
+	private static final long MULTIPLIER = 6364136223846793005L;
+	private static final long INCREMENT = 1442695040888963407L;
+
+	private int[][] buffers = new int[64][];
+	private int nextBuffer = 0;
+	private long worldGenSeed;
+	private long chunkSeed;
+
+	/**
+	 * Makes all buffers available again. The results of the previous request
+	 * are overwritten by the next request.
+	 */
+	public void reset() {
+		nextBuffer = 0;
+	}
+
+	/**
+	 * The returned buffer might be larger than the requested size.
+	 */
+	public int[] getBuffer(int size) {
+		if (nextBuffer == buffers.length) {
+			buffers = Arrays.copyOf(buffers, buffers.length * 2);
+		}
+		int[] buffer = buffers[nextBuffer];
+		if (buffer == null || buffer.length < size) {
+			buffer = new int[size];
+			buffers[nextBuffer] = buffer;
+		}
+		nextBuffer++;
+		return buffer;
+	}
+
+	public void initChunkSeed(long worldGenSeed, long x, long z) {
+		this.worldGenSeed = worldGenSeed;
+		chunkSeed = worldGenSeed;
+		chunkSeed = chunkSeed * (chunkSeed * MULTIPLIER + INCREMENT) + x;
+		chunkSeed = chunkSeed * (chunkSeed * MULTIPLIER + INCREMENT) + z;
+		chunkSeed = chunkSeed * (chunkSeed * MULTIPLIER + INCREMENT) + x;
+		chunkSeed = chunkSeed * (chunkSeed * MULTIPLIER + INCREMENT) + z;
+	}
+
+	public int nextInt(int bound) {
+		int result = (int) ((chunkSeed >> 24) % bound);
+		if (result < 0) {
+			result += bound;
+		}
+		chunkSeed = chunkSeed * (chunkSeed * MULTIPLIER + INCREMENT) + worldGenSeed;
+		return result;
+	}
+
+	public int selectRandom(int a, int b) {
+		return nextInt(2) == 0 ? a : b;
+	}
+
+	public int selectRandom(int a, int b, int c, int d) {
+		switch (nextInt(4)) {
+		case 0:
+			return a;
+		case 1:
+			return b;
+		case 2:
+			return c;
+		default:
+			return d;
+		}
+	}
+
+	public int selectModeOrRandom(int a, int b, int c, int d) {
+		if (b == c && c == d) {
+			return b;
+		} else if (a == b && a == c) {
+			return a;
+		} else if (a == b && a == d) {
+			return a;
+		} else if (a == c && a == d) {
+			return a;
+		} else if (a == b && c != d) {
+			return a;
+		} else if (a == c && b != d) {
+			return a;
+		} else if (a == d && b != c) {
+			return a;
+		} else if (b == c && a != d) {
+			return b;
+		} else if (b == d && a != c) {
+			return b;
+		} else if (c == d && a != b) {
+			return c;
+		} else {
+			return selectRandom(a, b, c, d);
+		}
+	}
+
+	public static long mixSeed(long seed, long salt) {
+		return seed * (seed * MULTIPLIER + INCREMENT) + salt;
+	}
+}
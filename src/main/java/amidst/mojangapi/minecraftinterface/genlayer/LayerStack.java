@@ -0,0 +1,131 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.Immutable;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * The complete layer stack of a world, like it is created by Minecraft 1.7 to
+ * 1.12. The layers are not changed after the stack is created.
+ */
+@Immutable
+public class LayerStack {
+	private static final RecognisedVersion FIRST_CUSTOMIZED_VERSION = RecognisedVersion._14w21b;
+	private static final RecognisedVersion LAST_GENERIC_MUTATIONS_VERSION = RecognisedVersion._1_8_9;
+	private static final RecognisedVersion FIRST_BROKEN_BIRCH_FOREST_MUTATION_VERSION = RecognisedVersion._1_9_pre2;
+	private static final RecognisedVersion LAST_BROKEN_BIRCH_FOREST_MUTATION_VERSION = RecognisedVersion._1_10_2;
+
+	public static LayerStack create(
+			long seed,
+			WorldType worldType,
+			GeneratorOptionsJson generatorOptions,
+			RecognisedVersion recognisedVersion) {
+		LayerBiomes biomes = new LayerBiomes(
+				RecognisedVersion.isOlderOrEqualTo(recognisedVersion, LAST_GENERIC_MUTATIONS_VERSION),
+				RecognisedVersion.isNewerOrEqualTo(recognisedVersion, FIRST_BROKEN_BIRCH_FOREST_MUTATION_VERSION)
+						&& RecognisedVersion.isOlderOrEqualTo(recognisedVersion, LAST_BROKEN_BIRCH_FOREST_MUTATION_VERSION));
+		int biomeSize = 4;
+		int riverSize = 4;
+		int fixedBiome = -1;
+		if (generatorOptions != null) {
+			biomeSize = generatorOptions.getBiomeSize();
+			riverSize = generatorOptions.getRiverSize();
+			fixedBiome = generatorOptions.getFixedBiome();
+		}
+		if (worldType == WorldType.LARGE_BIOMES) {
+			biomeSize = 6;
+		}
+		if (RecognisedVersion.isOlder(recognisedVersion, FIRST_CUSTOMIZED_VERSION)) {
+			riverSize = biomeSize;
+		}
+
+		// @formatter:off
+		GenLayer climate = new IslandLayer(1);
+		climate = new ZoomLayer(2000, climate, true);
+		climate = new AddIslandLayer(1, climate);
+		climate = new ZoomLayer(2001, climate, false);
+		climate = new AddIslandLayer(2, climate);
+		climate = new AddIslandLayer(50, climate);
+		climate = new AddIslandLayer(70, climate);
+		climate = new RemoveTooMuchOceanLayer(2, climate);
+		climate = new AddSnowLayer(2, climate);
+		climate = new AddIslandLayer(3, climate);
+		climate = new EdgeLayer(2, climate, EdgeLayer.Mode.COOL_WARM);
+		climate = new EdgeLayer(2, climate, EdgeLayer.Mode.HEAT_ICE);
+		climate = new EdgeLayer(3, climate, EdgeLayer.Mode.SPECIAL);
+		climate = new ZoomLayer(2002, climate, false);
+		climate = new ZoomLayer(2003, climate, false);
+		climate = new AddIslandLayer(4, climate);
+		climate = new AddMushroomIslandLayer(5, climate);
+		climate = new DeepOceanLayer(4, climate);
+
+		GenLayer riverInit = new RiverInitLayer(100, climate);
+
+		GenLayer biome = new BiomeLayer(200, climate, fixedBiome);
+		biome = ZoomLayer.magnify(1000, biome, 2);
+		biome = new BiomeEdgeLayer(1000, biome, biomes);
+		biome = new HillsLayer(1000, biome, ZoomLayer.magnify(1000, riverInit, 2), biomes);
+
+		GenLayer river = ZoomLayer.magnify(1000, riverInit, 2);
+		river = ZoomLayer.magnify(1000, river, riverSize);
+		river = new RiverLayer(1, river);
+		river = new SmoothLayer(1000, river);
+
+		GenLayer[] zoomedBiomes = new GenLayer[biomeSize + 1];
+		zoomedBiomes[0] = new RareBiomeLayer(1001, biome);
+		for (int i = 0; i < biomeSize; i++) {
+			biome = new ZoomLayer(1000 + i, zoomedBiomes[i], false);
+			if (i == 0) {
+				biome = new AddIslandLayer(3, biome);
+			}
+			if (i == 1 || biomeSize == 1) {
+				biome = new ShoreLayer(1000, biome, biomes);
+			}
+			zoomedBiomes[i + 1] = biome;
+		}
+
+		GenLayer[] quarterResolutions = new GenLayer[biomeSize + 1];
+		quarterResolutions[0] = new RiverMixLayer(100, new SmoothLayer(1000, zoomedBiomes[biomeSize]), river);
+		for (int level = 1; level < quarterResolutions.length; level++) {
+			quarterResolutions[level] = new SmoothLayer(1000, zoomedBiomes[biomeSize - level]);
+		}
+		for (GenLayer quarterResolution : quarterResolutions) {
+			quarterResolution.initWorldGenSeed(seed);
+		}
+		GenLayer fullResolution = new VoronoiZoomLayer(VoronoiZoomLayer.BASE_SEED, quarterResolutions[0]);
+		// @formatter:on
+
+		fullResolution.initWorldGenSeed(seed);
+		return new LayerStack(quarterResolutions, fullResolution);
+	}
+
+	private final GenLayer[] quarterResolutions;
+	private final GenLayer fullResolution;
+
+	private LayerStack(GenLayer[] quarterResolutions, GenLayer fullResolution) {
+		this.quarterResolutions = quarterResolutions;
+		this.fullResolution = fullResolution;
+	}
+
+	public GenLayer get(boolean useQuarterResolution) {
+		return useQuarterResolution ? quarterResolutions[0] : fullResolution;
+	}
+
+	/**
+	 * Returns the layers that generate the quarter resolution biomes with a
+	 * reduced level of detail, or null if the stack has not enough zoom layers
+	 * for the given level. Each level leaves out one more of the last zoom
+	 * layers of the biomes, so one biome of level n stands for 2^n by 2^n
+	 * quarter resolution biomes. The left out layers only move the biome
+	 * borders a bit, so the result looks like the quarter resolution biomes.
+	 * The rivers are left out above level 0, because they are only one
+	 * quarter resolution biome wide. Level 0 is the quarter resolution itself.
+	 */
+	public GenLayer getCoarse(int level) {
+		if (level < quarterResolutions.length) {
+			return quarterResolutions[level];
+		} else {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+public class RareBiomeLayer extends GenLayer {
+	public RareBiomeLayer(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, z - 1, parentWidth, height + 2);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				initChunkSeed(context, i + x, j + z);
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				if (context.nextInt(57) == 0 && center == LayerBiomes.PLAINS) {
+					result[i + j * width] = LayerBiomes.SUNFLOWER_PLAINS;
+				} else {
+					result[i + j * width] = center;
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,23 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+public class RiverInitLayer extends GenLayer {
+	public RiverInitLayer(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int[] parentInts = parent.getInts(context, x, z, width, height);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				initChunkSeed(context, i + x, j + z);
+				result[i + j * width] = parentInts[i + j * width] > 0 ? context.nextInt(299999) + 2 : 0;
+			}
+		}
+		return result;
+	}
+}
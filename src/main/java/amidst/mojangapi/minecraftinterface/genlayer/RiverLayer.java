@@ -0,0 +1,39 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Places rivers at the borders between the areas of the river noise.
+ */
+@NotThreadSafe
+public class RiverLayer extends GenLayer {
+	public RiverLayer(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, z - 1, parentWidth, height + 2);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int west = riverFilter(parentInts[i + 0 + (j + 1) * parentWidth]);
+				int east = riverFilter(parentInts[i + 2 + (j + 1) * parentWidth]);
+				int north = riverFilter(parentInts[i + 1 + (j + 0) * parentWidth]);
+				int south = riverFilter(parentInts[i + 1 + (j + 2) * parentWidth]);
+				int center = riverFilter(parentInts[i + 1 + (j + 1) * parentWidth]);
+				if (center == west && center == north && center == east && center == south) {
+					result[i + j * width] = -1;
+				} else {
+					result[i + j * width] = LayerBiomes.RIVER;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static int riverFilter(int value) {
+		return value >= 2 ? 2 + (value & 1) : value;
+	}
+}
@@ -0,0 +1,43 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Puts the rivers onto the biomes. This is the quarter resolution biome
+ * layer.
+ */
+@NotThreadSafe
+public class RiverMixLayer extends GenLayer {
+	private final GenLayer riverLayer;
+
+	public RiverMixLayer(long baseSeed, GenLayer parent, GenLayer riverLayer) {
+		super(baseSeed, parent);
+		this.riverLayer = riverLayer;
+	}
+
+	@Override
+	public void initWorldGenSeed(long seed) {
+		riverLayer.initWorldGenSeed(seed);
+		super.initWorldGenSeed(seed);
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int[] parentInts = parent.getInts(context, x, z, width, height);
+		int[] riverInts = riverLayer.getInts(context, x, z, width, height);
+		int[] result = context.getBuffer(width * height);
+		for (int i = 0; i < width * height; i++) {
+			int biome = parentInts[i];
+			if (biome == LayerBiomes.OCEAN || biome == LayerBiomes.DEEP_OCEAN || riverInts[i] != LayerBiomes.RIVER) {
+				result[i] = biome;
+			} else if (biome == LayerBiomes.ICE_PLAINS) {
+				result[i] = LayerBiomes.FROZEN_RIVER;
+			} else if (biome == LayerBiomes.MUSHROOM_ISLAND || biome == LayerBiomes.MUSHROOM_ISLAND_SHORE) {
+				result[i] = LayerBiomes.MUSHROOM_ISLAND_SHORE;
+			} else {
+				result[i] = riverInts[i] & 0xFF;
+			}
+		}
+		return result;
+	}
+}
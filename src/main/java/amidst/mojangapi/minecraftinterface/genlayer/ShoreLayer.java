@@ -0,0 +1,87 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Adds beaches and other transitions between land and ocean.
+ */
+@NotThreadSafe
+public class ShoreLayer extends GenLayer {
+	private final LayerBiomes biomes;
+
+	public ShoreLayer(long baseSeed, GenLayer parent, LayerBiomes biomes) {
+		super(baseSeed, parent);
+		this.biomes = biomes;
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, z - 1, parentWidth, height + 2);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				initChunkSeed(context, i + x, j + z);
+				int north = parentInts[i + 1 + (j + 0) * parentWidth];
+				int east = parentInts[i + 2 + (j + 1) * parentWidth];
+				int west = parentInts[i + 0 + (j + 1) * parentWidth];
+				int south = parentInts[i + 1 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				result[i + j * width] = getBiome(center, north, east, west, south);
+			}
+		}
+		return result;
+	}
+
+	private int getBiome(int center, int north, int east, int west, int south) {
+		boolean isNextToOcean = LayerBiomes.isOceanic(north) || LayerBiomes.isOceanic(east)
+				|| LayerBiomes.isOceanic(west) || LayerBiomes.isOceanic(south);
+		if (center == LayerBiomes.MUSHROOM_ISLAND) {
+			if (north != LayerBiomes.OCEAN && east != LayerBiomes.OCEAN && west != LayerBiomes.OCEAN
+					&& south != LayerBiomes.OCEAN) {
+				return center;
+			} else {
+				return LayerBiomes.MUSHROOM_ISLAND_SHORE;
+			}
+		} else if (biomes.isJungle(center)) {
+			if (isJungleCompatible(north) && isJungleCompatible(east) && isJungleCompatible(west)
+					&& isJungleCompatible(south)) {
+				return isNextToOcean ? LayerBiomes.BEACH : center;
+			} else {
+				return LayerBiomes.JUNGLE_EDGE;
+			}
+		} else if (center == LayerBiomes.EXTREME_HILLS || center == LayerBiomes.EXTREME_HILLS_PLUS
+				|| center == LayerBiomes.EXTREME_HILLS_EDGE) {
+			return replaceIfNextToOcean(center, isNextToOcean, LayerBiomes.STONE_BEACH);
+		} else if (LayerBiomes.isSnowy(center)) {
+			return replaceIfNextToOcean(center, isNextToOcean, LayerBiomes.COLD_BEACH);
+		} else if (center == LayerBiomes.MESA || center == LayerBiomes.MESA_PLATEAU_F) {
+			if (isNextToOcean) {
+				return center;
+			} else if (LayerBiomes.isMesa(north) && LayerBiomes.isMesa(east) && LayerBiomes.isMesa(west)
+					&& LayerBiomes.isMesa(south)) {
+				return center;
+			} else {
+				return LayerBiomes.DESERT;
+			}
+		} else if (center != LayerBiomes.OCEAN && center != LayerBiomes.DEEP_OCEAN && center != LayerBiomes.RIVER
+				&& center != LayerBiomes.SWAMPLAND) {
+			return isNextToOcean ? LayerBiomes.BEACH : center;
+		} else {
+			return center;
+		}
+	}
+
+	private static int replaceIfNextToOcean(int center, boolean isNextToOcean, int replacement) {
+		if (LayerBiomes.isOceanic(center) || !isNextToOcean) {
+			return center;
+		} else {
+			return replacement;
+		}
+	}
+
+	private boolean isJungleCompatible(int biome) {
+		return biomes.isJungle(biome) || biome == LayerBiomes.FOREST || biome == LayerBiomes.TAIGA
+				|| LayerBiomes.isOceanic(biome);
+	}
+}
@@ -0,0 +1,39 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+@NotThreadSafe
+public class SmoothLayer extends GenLayer {
+	public SmoothLayer(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, z - 1, parentWidth, height + 2);
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int west = parentInts[i + 0 + (j + 1) * parentWidth];
+				int east = parentInts[i + 2 + (j + 1) * parentWidth];
+				int north = parentInts[i + 1 + (j + 0) * parentWidth];
+				int south = parentInts[i + 1 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				if (west == east && north == south) {
+					initChunkSeed(context, i + x, j + z);
+					center = context.nextInt(2) == 0 ? west : north;
+				} else {
+					if (west == east) {
+						center = west;
+					}
+					if (north == south) {
+						center = north;
+					}
+				}
+				result[i + j * width] = center;
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,120 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Scales the quarter resolution biomes up to full resolution. Each quarter
+ * resolution cell gets a randomly displaced center. Each full resolution
+ * cell gets the biome of the nearest center.
+ */
+@NotThreadSafe
+public class VoronoiZoomLayer extends GenLayer {
+	/**
+	 * The base seed that Minecraft uses for the voronoi zoom layer.
+	 */
+	public static final long BASE_SEED = 10;
+
+	public VoronoiZoomLayer(long baseSeed, GenLayer parent) {
+		super(baseSeed, parent);
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int[] parentInts = parent.getInts(
+				context,
+				getParentX(x),
+				getParentZ(z),
+				getParentWidth(width),
+				getParentHeight(height));
+		return zoom(context, parentInts, x, z, width, height);
+	}
+
+	public static int getParentX(int x) {
+		return x - 2 >> 2;
+	}
+
+	public static int getParentZ(int z) {
+		return z - 2 >> 2;
+	}
+
+	public static int getParentWidth(int width) {
+		return (width >> 2) + 2;
+	}
+
+	public static int getParentHeight(int height) {
+		return (height >> 2) + 2;
+	}
+
+	/**
+	 * The parent ints have to cover the parent area of the requested area.
+	 * This allows to zoom biome data that was not generated by the parent
+	 * layer, e.g. cached quarter resolution biome data.
+	 */
+	public int[] zoom(LayerContext context, int[] parentInts, int x, int z, int width, int height) {
+		x -= 2;
+		z -= 2;
+		int parentX = x >> 2;
+		int parentZ = z >> 2;
+		int parentWidth = getParentWidth(width);
+		int parentHeight = getParentHeight(height);
+		int zoomedWidth = parentWidth - 1 << 2;
+		int zoomedHeight = parentHeight - 1 << 2;
+		int[] zoomed = context.getBuffer(zoomedWidth * zoomedHeight);
+		for (int j = 0; j < parentHeight - 1; j++) {
+			int topLeft = parentInts[(j + 0) * parentWidth];
+			int bottomLeft = parentInts[(j + 1) * parentWidth];
+			for (int i = 0; i < parentWidth - 1; i++) {
+				initChunkSeed(context, i + parentX << 2, j + parentZ << 2);
+				double topLeftX = nextOffset(context);
+				double topLeftZ = nextOffset(context);
+				initChunkSeed(context, i + parentX + 1 << 2, j + parentZ << 2);
+				double topRightX = nextOffset(context) + 4.0;
+				double topRightZ = nextOffset(context);
+				initChunkSeed(context, i + parentX << 2, j + parentZ + 1 << 2);
+				double bottomLeftX = nextOffset(context);
+				double bottomLeftZ = nextOffset(context) + 4.0;
+				initChunkSeed(context, i + parentX + 1 << 2, j + parentZ + 1 << 2);
+				double bottomRightX = nextOffset(context) + 4.0;
+				double bottomRightZ = nextOffset(context) + 4.0;
+				int topRight = parentInts[i + 1 + (j + 0) * parentWidth] & 0xFF;
+				int bottomRight = parentInts[i + 1 + (j + 1) * parentWidth] & 0xFF;
+				for (int dz = 0; dz < 4; dz++) {
+					int index = ((j << 2) + dz) * zoomedWidth + (i << 2);
+					for (int dx = 0; dx < 4; dx++) {
+						double topLeftDistance = squaredDistance(dx, dz, topLeftX, topLeftZ);
+						double topRightDistance = squaredDistance(dx, dz, topRightX, topRightZ);
+						double bottomLeftDistance = squaredDistance(dx, dz, bottomLeftX, bottomLeftZ);
+						double bottomRightDistance = squaredDistance(dx, dz, bottomRightX, bottomRightZ);
+						if (topLeftDistance < topRightDistance && topLeftDistance < bottomLeftDistance
+								&& topLeftDistance < bottomRightDistance) {
+							zoomed[index++] = topLeft;
+						} else if (topRightDistance < topLeftDistance && topRightDistance < bottomLeftDistance
+								&& topRightDistance < bottomRightDistance) {
+							zoomed[index++] = topRight;
+						} else if (bottomLeftDistance < topLeftDistance && bottomLeftDistance < topRightDistance
+								&& bottomLeftDistance < bottomRightDistance) {
+							zoomed[index++] = bottomLeft;
+						} else {
+							zoomed[index++] = bottomRight;
+						}
+					}
+				}
+				topLeft = topRight;
+				bottomLeft = bottomRight;
+			}
+		}
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(zoomed, (j + (z & 3)) * zoomedWidth + (x & 3), result, j * width, width);
+		}
+		return result;
+	}
+
+	private static double nextOffset(LayerContext context) {
+		return (context.nextInt(1024) / 1024.0 - 0.5) * 3.6;
+	}
+
+	private static double squaredDistance(int dx, int dz, double centerX, double centerZ) {
+		return (dz - centerZ) * (dz - centerZ) + (dx - centerX) * (dx - centerX);
+	}
+}
@@ -0,0 +1,64 @@
+package amidst.mojangapi.minecraftinterface.genlayer;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Doubles the resolution. The fuzzy variant picks a random corner instead of
+ * the most common one.
+ */
+@NotThreadSafe
+public class ZoomLayer extends GenLayer {
+	public static GenLayer magnify(long baseSeed, GenLayer parent, int times) {
+		GenLayer result = parent;
+		for (int i = 0; i < times; i++) {
+			result = new ZoomLayer(baseSeed + i, result, false);
+		}
+		return result;
+	}
+
+	private final boolean isFuzzy;
+
+	public ZoomLayer(long baseSeed, GenLayer parent, boolean isFuzzy) {
+		super(baseSeed, parent);
+		this.isFuzzy = isFuzzy;
+	}
+
+	@Override
+	public int[] getInts(LayerContext context, int x, int z, int width, int height) {
+		int parentX = x >> 1;
+		int parentZ = z >> 1;
+		int parentWidth = (width >> 1) + 2;
+		int parentHeight = (height >> 1) + 2;
+		int[] parentInts = parent.getInts(context, parentX, parentZ, parentWidth, parentHeight);
+		int zoomedWidth = parentWidth - 1 << 1;
+		int zoomedHeight = parentHeight - 1 << 1;
+		int[] zoomed = context.getBuffer(zoomedWidth * zoomedHeight);
+		for (int j = 0; j < parentHeight - 1; j++) {
+			int index = (j << 1) * zoomedWidth;
+			int topLeft = parentInts[(j + 0) * parentWidth];
+			int bottomLeft = parentInts[(j + 1) * parentWidth];
+			for (int i = 0; i < parentWidth - 1; i++) {
+				initChunkSeed(context, i + parentX << 1, j + parentZ << 1);
+				int topRight = parentInts[i + 1 + (j + 0) * parentWidth];
+				int bottomRight = parentInts[i + 1 + (j + 1) * parentWidth];
+				zoomed[index] = topLeft;
+				zoomed[index++ + zoomedWidth] = context.selectRandom(topLeft, bottomLeft);
+				zoomed[index] = context.selectRandom(topLeft, topRight);
+				if (isFuzzy) {
+					zoomed[index++ + zoomedWidth] = context
+							.selectRandom(topLeft, topRight, bottomLeft, bottomRight);
+				} else {
+					zoomed[index++ + zoomedWidth] = context
+							.selectModeOrRandom(topLeft, topRight, bottomLeft, bottomRight);
+				}
+				topLeft = topRight;
+				bottomLeft = bottomRight;
+			}
+		}
+		int[] result = context.getBuffer(width * height);
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(zoomed, (j + (z & 1)) * zoomedWidth + (x & 1), result, j * width, width);
+		}
+		return result;
+	}
+}
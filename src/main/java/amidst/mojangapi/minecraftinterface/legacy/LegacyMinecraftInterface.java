@@ -1,5 +1,7 @@
 package amidst.mojangapi.minecraftinterface.legacy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
@@ -28,6 +30,16 @@ public class LegacyMinecraftInterface implements MinecraftInterface {
 	private final SymbolicClass genOptionsFactoryClass;
 	private final RecognisedVersion recognisedVersion;
 
+	/**
+	 * The signature is: void resetIntCache()
+	 */
+	private final MethodHandle intCacheResetIntCacheMethod;
+
+	/**
+	 * The signature is: int[] getInts(Object genLayer, int x, int y, int width, int height)
+	 */
+	private final MethodHandle genLayerGetIntsMethod;
+
 	LegacyMinecraftInterface(
 			SymbolicClass intCacheClass,
 			SymbolicClass blockInitClass,
@@ -41,6 +53,11 @@ public class LegacyMinecraftInterface implements MinecraftInterface {
 		this.worldTypeClass = worldTypeClass;
 		this.genOptionsFactoryClass = genOptionsFactoryClass;
 		this.recognisedVersion = recognisedVersion;
+		this.intCacheResetIntCacheMethod = intCacheClass
+				.getMethod(LegacySymbolicNames.METHOD_INT_CACHE_RESET_INT_CACHE)
+				.getMethodHandle(MethodType.methodType(void.class));
+		this.genLayerGetIntsMethod = genLayerClass.getMethod(LegacySymbolicNames.METHOD_GEN_LAYER_GET_INTS).getMethodHandle(
+				MethodType.methodType(int[].class, Object.class, int.class, int.class, int.class, int.class));
 	}
 	
 	public LegacyMinecraftInterface(Map<String, SymbolicClass> symbolicClassMap, RecognisedVersion recognisedVersion) {
@@ -54,15 +71,38 @@ public class LegacyMinecraftInterface implements MinecraftInterface {
 	}
 
 	@Override
-	public synchronized int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
 			throws MinecraftInterfaceException {
+		int[] result = new int[width * height];
+		getBiomeData(x, y, width, height, useQuarterResolution, result, 0, width);
+		return result;
+	}
+
+	/**
+	 * Minecraft returns an array of its int cache, which is reused by the next
+	 * call. Thus, it has to be copied before the lock is released.
+	 */
+	@Override
+	public synchronized void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		Object biomeGenerator = getBiomeGenerator(useQuarterResolution).getObject();
+		int[] biomeData;
 		try {
-			intCacheClass.callStaticMethod(LegacySymbolicNames.METHOD_INT_CACHE_RESET_INT_CACHE);
-			return (int[]) getBiomeGenerator(useQuarterResolution)
-					.callMethod(LegacySymbolicNames.METHOD_GEN_LAYER_GET_INTS, x, y, width, height);
-		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			intCacheResetIntCacheMethod.invokeExact();
+			biomeData = (int[]) genLayerGetIntsMethod.invokeExact(biomeGenerator, x, y, width, height);
+		} catch (Throwable e) {
 			throw new MinecraftInterfaceException("unable to get biome data", e);
 		}
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(biomeData, j * width, result, offset + j * stride, width);
+		}
 	}
 
 	private SymbolicObject getBiomeGenerator(boolean useQuarterResolution) {
@@ -1,12 +1,13 @@
 package amidst.mojangapi.minecraftinterface.local;
 
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import amidst.clazz.symbolic.SymbolicClass;
+import amidst.clazz.symbolic.SymbolicMethod;
 import amidst.clazz.symbolic.SymbolicObject;
 import amidst.logging.AmidstLogger;
 import amidst.mojangapi.minecraftinterface.MinecraftInterface;
@@ -31,15 +32,32 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 	
 	/**
 	 * The Biome.getId method handle.
-	 * If version < 18w33a, the signature is: int getId(Biome)
-	 * If version >= 18w33a, the signature is: int getId(Registry<Biome>, Biome)
+	 * If version < 18w33a, the signature is: int getId(Object biome)
+	 * If version >= 18w33a, the signature is: int getId(Object registry, Object biome)
 	 */
 	private MethodHandle biomeGetIdMethod;
+
+	/**
+	 * The GenLayer.getBiomeData method handle, with the signature:
+	 * Object[] getBiomeData(Object genLayer, int x, int y, int width, int height, Object unused)
+	 */
+	private MethodHandle genLayerGetBiomeDataMethod;
 	
 	/**
 	 * The biome registry, for use with versions >= 18w33a
 	 */
 	private Object biomeRegistry;
+
+	/**
+	 * The ids of the biome instances that were returned by the biome
+	 * generators. There is only a small, fixed set of biome instances, so each
+	 * of them is converted with biomeGetIdMethod only once per world instead of
+	 * once per cell. Consecutive cells usually have the same biome, so the last
+	 * conversion is remembered, too.
+	 */
+	private final Map<Object, Integer> biomeIds = new IdentityHashMap<>();
+	private Object lastBiome;
+	private int lastBiomeId;
 	
 	/**
 	 * A GenLayer instance, at quarter scale to the final biome layer (i.e. both
@@ -57,11 +75,6 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 	 */
 	private volatile SymbolicObject fullResolutionBiomeGenerator;
 	
-	/**
-	 * An array used to return biome data
-	 */
-	private volatile int[] dataArray = new int[256];
-	
 	public LocalMinecraftInterface(
 			SymbolicClass bootstrapClass,
 			SymbolicClass worldTypeClass,
@@ -101,29 +114,54 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 	@Override
 	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
 			throws MinecraftInterfaceException {
+		int[] result = new int[width * height];
+		getBiomeData(x, y, width, height, useQuarterResolution, result, 0, width);
+		return result;
+	}
+
+	/**
+	 * The biome generators of Minecraft are not thread-safe, so this is
+	 * synchronized. The biome ids are written directly to the array of the
+	 * caller.
+	 */
+	@Override
+	public synchronized void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
 		try {
 			if(!isInitialized) {	
-				Method biomeRawMethod = biomeClass.getMethod(SymbolicNames.METHOD_BIOME_GET_ID).getRawMethod();
-				if(registryKeyClass != null && !biomeRawMethod.getReturnType().equals(Integer.TYPE)) {
+				SymbolicMethod biomeGetId = biomeClass.getMethod(SymbolicNames.METHOD_BIOME_GET_ID);
+				if(registryKeyClass != null && !biomeGetId.getRawMethod().getReturnType().equals(Integer.TYPE)) {
 					biomeRegistry = getBiomeRegistry();
-					biomeRawMethod = registryClass.getMethod(SymbolicNames.METHOD_REGISTRY_GET_ID).getRawMethod();
+					biomeGetIdMethod = registryClass.getMethod(SymbolicNames.METHOD_REGISTRY_GET_ID)
+							.getMethodHandle(MethodType.methodType(int.class, Object.class, Object.class));
+				} else {
+					biomeGetIdMethod = biomeGetId.getMethodHandle(MethodType.methodType(int.class, Object.class));
 				}
-				biomeGetIdMethod = MethodHandles.lookup().unreflect(biomeRawMethod);
+				genLayerGetBiomeDataMethod = genLayerClass.getMethod(SymbolicNames.METHOD_GEN_LAYER_GET_BIOME_DATA)
+						.getMethodHandle(MethodType.methodType(
+								Object[].class, Object.class, int.class, int.class, int.class, int.class, Object.class));
 				
 				isInitialized = true;
 			}
 			
 			
-			int[] data = ensureArrayCapacity(width*height);
-			
 			/**
 			 * We break the region in 16x16 chunks, to get better performance out of the LazyArea used by the game.
 			 * Sadly, we get no performance gain in 18w16a and newer, but in previous snapshots we get a ~1.5x improvement.
 			 */
 			if(RecognisedVersion.isNewerOrEqualTo(recognisedVersion, RecognisedVersion._18w16a)) {
 				Object[] biomes = getBiomeDataInner(x, y, width, height, useQuarterResolution);
-				for(int i = 0; i < biomes.length; i++) {
-					data[i] = getBiomeId(biomes[i]);
+				for(int j = 0; j < height; j++) {
+					for(int i = 0; i < width; i++) {
+						result[offset + i + j*stride] = getBiomeId(biomes[i + j*width]);
+					}
 				}
 			} else {
 				int chunkSize = 16;
@@ -138,15 +176,13 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 						for(int i = 0; i < w; i++) {
 							for(int j = 0; j < h; j++) {
 								int idx = i + j*w;
-								int trueIdx = (x0+i) + (y0+j)*width;
-								data[trueIdx] = getBiomeId(biomes[idx]);
+								int trueIdx = offset + (x0+i) + (y0+j)*stride;
+								result[trueIdx] = getBiomeId(biomes[idx]);
 							}
 						}
 					}
 				}
 			}
-			
-			return data;			
 		} catch (IllegalAccessException | IllegalArgumentException
 				| InvocationTargetException | InstantiationException e) {
 			throw new MinecraftInterfaceException("unable to get biome data", e);
@@ -154,10 +190,13 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 	}
 	
 	private Object[] getBiomeDataInner(int x, int y, int width, int height, boolean useQuarterResolution)
-		throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-		SymbolicObject biomeGen = getBiomeGenerator(useQuarterResolution);
-		Object[] biomes = (Object[]) biomeGen.callMethod(SymbolicNames.METHOD_GEN_LAYER_GET_BIOME_DATA, x, y, width, height, null);
-		return biomes;
+		throws MinecraftInterfaceException {
+		Object biomeGen = getBiomeGenerator(useQuarterResolution).getObject();
+		try {
+			return (Object[]) genLayerGetBiomeDataMethod.invokeExact(biomeGen, x, y, width, height, (Object) null);
+		} catch (Throwable e) {
+			throw new MinecraftInterfaceException("unable to get biome data", e);
+		}
 	}
 	
 	private Object getBiomeRegistry()
@@ -187,6 +226,9 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 			
 			quarterResolutionBiomeGenerator = new SymbolicObject(genLayerClass, genLayers[0]);
 			fullResolutionBiomeGenerator = new SymbolicObject(genLayerClass, genLayers[1]);
+			biomeIds.clear();
+			lastBiome = null;
+			lastBiomeId = 0;
 			
 		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException | InstantiationException e) {
 			throw new MinecraftInterfaceException("unable to create world", e);
@@ -214,29 +256,30 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 	}
 	
 	private int getBiomeId(Object biome) throws MinecraftInterfaceException {
+		if (biome != lastBiome || biome == null) {
+			Integer id = biomeIds.get(biome);
+			if (id == null) {
+				id = lookUpBiomeId(biome);
+				biomeIds.put(biome, id);
+			}
+			lastBiome = biome;
+			lastBiomeId = id;
+		}
+		return lastBiomeId;
+	}
+
+	private int lookUpBiomeId(Object biome) throws MinecraftInterfaceException {
 		try {
 			if(biomeRegistry != null) {
-				return (int) biomeGetIdMethod.invoke(biomeRegistry, biome);
+				return (int) biomeGetIdMethod.invokeExact(biomeRegistry, biome);
 			} else {
-				return (int) biomeGetIdMethod.invoke(biome);
+				return (int) biomeGetIdMethod.invokeExact(biome);
 			}
 		} catch (Throwable e) {
 			throw new MinecraftInterfaceException("unable to get biome data", e);
 		}
 	}
 	
-	private int[] ensureArrayCapacity(int length) {
-		int cur = dataArray.length;
-		if(length <= cur)
-			return dataArray;
-		
-		while(cur < length)
-			cur *= 2;
-		
-		dataArray = new int[cur];
-		return dataArray;
-	}
-	
 
 	@Override
 	public RecognisedVersion getRecognisedVersion() {
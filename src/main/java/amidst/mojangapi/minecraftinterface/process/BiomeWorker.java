@@ -0,0 +1,132 @@
+package amidst.mojangapi.minecraftinterface.process;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+
+import amidst.documentation.NotThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.file.LauncherProfile;
+import amidst.mojangapi.file.MinecraftInstallation;
+import amidst.mojangapi.file.directory.DotMinecraftDirectory;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceCreationException;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaces;
+import amidst.mojangapi.world.WorldType;
+import amidst.parsing.FormatException;
+
+/**
+ * The main class of the worker processes that are started by
+ * {@link ProcessMinecraftInterface}. It loads the minecraft jar file and
+ * answers the requests until its standard input is closed. The standard
+ * output is reserved for the responses, so everything else that is printed
+ * goes to the standard error stream.
+ *
+ * The arguments are the .minecraft directory, the libraries directory, the
+ * jar file and the json file of the version.
+ */
+@NotThreadSafe
+public class BiomeWorker {
+	public static void main(String[] args) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(System.out));
+		System.setOut(System.err);
+		DataInputStream in = new DataInputStream(new BufferedInputStream(System.in));
+		MinecraftInterface minecraftInterface;
+		try {
+			minecraftInterface = createMinecraftInterface(args);
+		} catch (MinecraftInterfaceCreationException | FormatException | IOException e) {
+			BiomeWorkerProtocol.writeError(out, e);
+			return;
+		}
+		out.writeByte(BiomeWorkerProtocol.STATUS_OK);
+		BiomeWorkerProtocol.writeString(out, minecraftInterface.getRecognisedVersion().name());
+		out.flush();
+		new BiomeWorker(minecraftInterface, in, out).run();
+	}
+
+	private static MinecraftInterface createMinecraftInterface(String[] args)
+			throws MinecraftInterfaceCreationException,
+			FormatException,
+			IOException {
+		DotMinecraftDirectory dotMinecraftDirectory = DotMinecraftDirectory
+				.newCustom(new File(args[0]), new File(args[1]), null, null, null);
+		LauncherProfile launcherProfile = new MinecraftInstallation(dotMinecraftDirectory)
+				.newLauncherProfile(new File(args[2]), new File(args[3]));
+		return MinecraftInterfaces.fromLocalProfile(launcherProfile);
+	}
+
+	private final MinecraftInterface minecraftInterface;
+	private final DataInputStream in;
+	private final DataOutputStream out;
+	private int[] biomeData = new int[0];
+	private byte[] buffer = new byte[0];
+
+	public BiomeWorker(MinecraftInterface minecraftInterface, DataInputStream in, DataOutputStream out) {
+		this.minecraftInterface = minecraftInterface;
+		this.in = in;
+		this.out = out;
+	}
+
+	public void run() throws IOException {
+		int command;
+		while ((command = readCommand()) != -1) {
+			if (command == BiomeWorkerProtocol.COMMAND_CREATE_WORLD) {
+				createWorld();
+			} else if (command == BiomeWorkerProtocol.COMMAND_GET_BIOME_DATA) {
+				getBiomeData();
+			} else {
+				AmidstLogger.error("biome worker received the unknown command " + command);
+				return;
+			}
+			out.flush();
+		}
+	}
+
+	/**
+	 * Returns -1 if the standard input is closed.
+	 */
+	private int readCommand() throws IOException {
+		try {
+			return in.readUnsignedByte();
+		} catch (EOFException e) {
+			return -1;
+		}
+	}
+
+	private void createWorld() throws IOException {
+		long seed = in.readLong();
+		WorldType worldType = WorldType.valueOf(BiomeWorkerProtocol.readString(in));
+		String generatorOptions = BiomeWorkerProtocol.readString(in);
+		try {
+			minecraftInterface.createWorld(seed, worldType, generatorOptions);
+			out.writeByte(BiomeWorkerProtocol.STATUS_OK);
+		} catch (MinecraftInterfaceException e) {
+			BiomeWorkerProtocol.writeError(out, e);
+		}
+	}
+
+	private void getBiomeData() throws IOException {
+		int x = in.readInt();
+		int y = in.readInt();
+		int width = in.readInt();
+		int height = in.readInt();
+		boolean useQuarterResolution = in.readBoolean();
+		int length = width * height;
+		if (biomeData.length < length) {
+			biomeData = new int[length];
+			buffer = new byte[2 * length];
+		}
+		try {
+			minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution, biomeData, 0, width);
+			out.writeByte(BiomeWorkerProtocol.STATUS_OK);
+			BiomeWorkerProtocol.writeBiomeData(out, biomeData, length, buffer);
+		} catch (MinecraftInterfaceException e) {
+			BiomeWorkerProtocol.writeError(out, e);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package amidst.mojangapi.minecraftinterface.process;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+
+/**
+ * The binary protocol between a {@link ProcessMinecraftInterface} and its
+ * {@link BiomeWorker}. The worker reads the requests from its standard input
+ * and writes the responses to its standard output.
+ *
+ * When the worker is started, it sends a status and the name of the
+ * recognised version. Each request starts with the command, followed by the
+ * parameters. Each response starts with a status. An error status is followed
+ * by the error message. The biome data is sent as two bytes per biome.
+ */
+public enum BiomeWorkerProtocol {
+	;
+
+	public static final int COMMAND_CREATE_WORLD = 1;
+	public static final int COMMAND_GET_BIOME_DATA = 2;
+
+	public static final int STATUS_OK = 0;
+	public static final int STATUS_ERROR = 1;
+
+	public static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	public static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	public static void writeError(DataOutputStream out, Exception e) throws IOException {
+		out.writeByte(STATUS_ERROR);
+		writeString(out, String.valueOf(e));
+		out.flush();
+	}
+
+	/**
+	 * Throws a MinecraftInterfaceException with the error message, if the
+	 * response has an error status. The stream is still in sync afterwards.
+	 * An IOException means that it is not.
+	 */
+	public static void readStatus(DataInputStream in) throws IOException, MinecraftInterfaceException {
+		int status = in.readUnsignedByte();
+		if (status == STATUS_ERROR) {
+			throw new MinecraftInterfaceException("the biome worker failed: " + readString(in));
+		} else if (status != STATUS_OK) {
+			throw new IOException("the biome worker sent the unknown status " + status);
+		}
+	}
+
+	/**
+	 * The buffer needs to hold at least two bytes per biome.
+	 */
+	public static void writeBiomeData(DataOutputStream out, int[] biomeData, int length, byte[] buffer)
+			throws IOException {
+		for (int i = 0; i < length; i++) {
+			buffer[2 * i] = (byte) (biomeData[i] >>> 8);
+			buffer[2 * i + 1] = (byte) biomeData[i];
+		}
+		out.write(buffer, 0, 2 * length);
+	}
+
+	/**
+	 * The buffer needs to hold at least two bytes per biome.
+	 */
+	public static void readBiomeData(
+			DataInputStream in,
+			int width,
+			int height,
+			int[] result,
+			int offset,
+			int stride,
+			byte[] buffer) throws IOException {
+		in.readFully(buffer, 0, 2 * width * height);
+		int i = 0;
+		for (int y = 0; y < height; y++) {
+			int resultIndex = offset + y * stride;
+			for (int x = 0; x < width; x++) {
+				result[resultIndex + x] = (short) ((buffer[i] << 8) | (buffer[i + 1] & 0xFF));
+				i += 2;
+			}
+		}
+	}
+}
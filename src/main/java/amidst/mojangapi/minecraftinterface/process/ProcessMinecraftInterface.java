@@ -0,0 +1,226 @@
+package amidst.mojangapi.minecraftinterface.process;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import amidst.documentation.Immutable;
+import amidst.documentation.NotThreadSafe;
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.file.LauncherProfile;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceCreationException;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Generates the biomes in a separate java process, a {@link BiomeWorker}. The
+ * worker loads the minecraft jar file on its own, so it shares no static state
+ * with other workers, and its garbage collection does not pause the user
+ * interface. The requests and responses are sent through the standard input
+ * and output of the worker, as described in {@link BiomeWorkerProtocol}.
+ *
+ * The worker exits when its standard input is closed, which happens when this
+ * minecraft interface is closed or when this process exits.
+ *
+ * If the worker dies or the stream gets out of sync, the worker is destroyed
+ * and the request fails. The next request starts a new worker, which creates
+ * the current world again.
+ */
+@ThreadSafe
+public class ProcessMinecraftInterface implements MinecraftInterface {
+	@NotThreadSafe
+	private static class Worker {
+		private final Process process;
+		private final DataInputStream in;
+		private final DataOutputStream out;
+		private final RecognisedVersion recognisedVersion;
+
+		public Worker(Process process, DataInputStream in, DataOutputStream out, RecognisedVersion recognisedVersion) {
+			this.process = process;
+			this.in = in;
+			this.out = out;
+			this.recognisedVersion = recognisedVersion;
+		}
+
+		public void destroy() {
+			try {
+				out.close();
+			} catch (IOException e) {
+				// the worker is destroyed anyway
+			}
+			process.destroy();
+		}
+	}
+
+	@Immutable
+	private static class WorldParameters {
+		private final long seed;
+		private final WorldType worldType;
+		private final String generatorOptions;
+
+		public WorldParameters(long seed, WorldType worldType, String generatorOptions) {
+			this.seed = seed;
+			this.worldType = worldType;
+			this.generatorOptions = generatorOptions;
+		}
+	}
+
+	public static ProcessMinecraftInterface start(LauncherProfile launcherProfile)
+			throws MinecraftInterfaceCreationException {
+		return new ProcessMinecraftInterface(launcherProfile, startWorker(launcherProfile));
+	}
+
+	private static Worker startWorker(LauncherProfile launcherProfile) throws MinecraftInterfaceCreationException {
+		List<String> command = Arrays.asList(
+				new File(new File(System.getProperty("java.home"), "bin"), "java").getPath(),
+				"-cp",
+				System.getProperty("java.class.path"),
+				BiomeWorker.class.getName(),
+				launcherProfile.getDotMinecraftDirectory().getRoot().getPath(),
+				launcherProfile.getDotMinecraftDirectory().getLibraries().getPath(),
+				launcherProfile.getJar().getPath(),
+				launcherProfile.getJson().getPath());
+		Process process = null;
+		try {
+			process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+			DataInputStream in = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+			BiomeWorkerProtocol.readStatus(in);
+			RecognisedVersion recognisedVersion = RecognisedVersion.valueOf(BiomeWorkerProtocol.readString(in));
+			AmidstLogger.info("Started biome worker process for " + recognisedVersion.getName() + ".");
+			return new Worker(process, in, out, recognisedVersion);
+		} catch (IOException | MinecraftInterfaceException | IllegalArgumentException e) {
+			if (process != null) {
+				process.destroy();
+			}
+			throw new MinecraftInterfaceCreationException("unable to start the biome worker process", e);
+		}
+	}
+
+	private final LauncherProfile launcherProfile;
+	private final RecognisedVersion recognisedVersion;
+	private Worker worker;
+	private WorldParameters worldParameters = null;
+	private boolean isClosed = false;
+	private byte[] buffer = new byte[0];
+
+	private ProcessMinecraftInterface(LauncherProfile launcherProfile, Worker worker) {
+		this.launcherProfile = launcherProfile;
+		this.recognisedVersion = worker.recognisedVersion;
+		this.worker = worker;
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		int[] result = new int[width * height];
+		getBiomeData(x, y, width, height, useQuarterResolution, result, 0, width);
+		return result;
+	}
+
+	@Override
+	public synchronized void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		Worker worker = getWorker();
+		try {
+			worker.out.writeByte(BiomeWorkerProtocol.COMMAND_GET_BIOME_DATA);
+			worker.out.writeInt(x);
+			worker.out.writeInt(y);
+			worker.out.writeInt(width);
+			worker.out.writeInt(height);
+			worker.out.writeBoolean(useQuarterResolution);
+			worker.out.flush();
+			BiomeWorkerProtocol.readStatus(worker.in);
+			if (buffer.length < 2 * width * height) {
+				buffer = new byte[2 * width * height];
+			}
+			BiomeWorkerProtocol.readBiomeData(worker.in, width, height, result, offset, stride, buffer);
+		} catch (IOException e) {
+			destroyWorker();
+			throw new MinecraftInterfaceException("unable to get biome data", e);
+		}
+	}
+
+	@Override
+	public synchronized void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		worldParameters = new WorldParameters(seed, worldType, generatorOptions);
+		createWorld(getWorker(), worldParameters);
+	}
+
+	private void createWorld(Worker worker, WorldParameters worldParameters) throws MinecraftInterfaceException {
+		try {
+			worker.out.writeByte(BiomeWorkerProtocol.COMMAND_CREATE_WORLD);
+			worker.out.writeLong(worldParameters.seed);
+			BiomeWorkerProtocol.writeString(worker.out, worldParameters.worldType.name());
+			BiomeWorkerProtocol.writeString(worker.out, worldParameters.generatorOptions);
+			worker.out.flush();
+			BiomeWorkerProtocol.readStatus(worker.in);
+		} catch (IOException e) {
+			destroyWorker();
+			throw new MinecraftInterfaceException("unable to create world", e);
+		}
+	}
+
+	/**
+	 * Starts a new worker if the previous one was destroyed, and creates the
+	 * current world in it.
+	 */
+	private Worker getWorker() throws MinecraftInterfaceException {
+		if (isClosed) {
+			throw new MinecraftInterfaceException("the biome worker process was closed");
+		} else if (worker == null) {
+			try {
+				worker = startWorker(launcherProfile);
+			} catch (MinecraftInterfaceCreationException e) {
+				throw new MinecraftInterfaceException("unable to replace the biome worker process", e);
+			}
+			if (worldParameters != null) {
+				try {
+					createWorld(worker, worldParameters);
+				} catch (MinecraftInterfaceException e) {
+					destroyWorker();
+					throw e;
+				}
+			}
+		}
+		return worker;
+	}
+
+	private void destroyWorker() {
+		if (worker != null) {
+			AmidstLogger.warn("Destroying the biome worker process, it will be replaced on the next request.");
+			worker.destroy();
+			worker = null;
+		}
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return recognisedVersion;
+	}
+
+	@Override
+	public synchronized void close() {
+		isClosed = true;
+		if (worker != null) {
+			worker.destroy();
+			worker = null;
+		}
+	}
+}
@@ -2,12 +2,15 @@ package amidst.mojangapi.world;
 
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import amidst.documentation.ThreadSafe;
 import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 import amidst.mojangapi.world.icon.WorldIcon;
 import amidst.mojangapi.world.icon.producer.CachedWorldIconProducer;
 import amidst.mojangapi.world.icon.producer.WorldIconProducer;
+import amidst.mojangapi.world.icon.type.DefaultWorldIconTypes;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 import amidst.mojangapi.world.oracle.EndIsland;
 import amidst.mojangapi.world.oracle.EndIslandOracle;
@@ -182,6 +185,66 @@ public class World {
 		playerProducer.resetCache();
 	}
 
+	/**
+	 * Returns the structure of the given type that is closest to from, or null
+	 * if there is none within maxDistance blocks. Returns null for types that
+	 * are not structures.
+	 */
+	public WorldIcon nearestStructure(DefaultWorldIconTypes type, CoordinatesInWorld from, long maxDistance) {
+		String label = type.getLabel();
+		switch (type) {
+		case VILLAGE:
+			return nearest(villageProducer, label, from, maxDistance);
+		case DESERT:
+		case JUNGLE:
+		case WITCH:
+		case IGLOO:
+			return nearest(templeProducer, label, from, maxDistance);
+		case MINESHAFT:
+			return nearest(mineshaftProducer, label, from, maxDistance);
+		case OCEAN_MONUMENT:
+			return nearest(oceanMonumentProducer, label, from, maxDistance);
+		case WOODLAND_MANSION:
+			return nearest(woodlandMansionProducer, label, from, maxDistance);
+		case OCEAN_RUINS:
+		case SHIPWRECK:
+			return nearest(oceanFeaturesProducer, label, from, maxDistance);
+		case NETHER_FORTRESS:
+			return nearest(netherFortressProducer, label, from, maxDistance);
+		case STRONGHOLD:
+			return nearest(strongholdProducer, label, from, maxDistance);
+		case END_CITY:
+		case POSSIBLE_END_CITY:
+			return endCityProducer
+					.getNearest(from, maxDistance, icon -> icon.getName().equals(label), endIslandOracle::getAt);
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Like nearestStructure, but for many positions at once. The positions are
+	 * searched in parallel. The result contains the structure for each
+	 * position in the same order, or null if there is none.
+	 */
+	public List<WorldIcon> nearestStructures(
+			DefaultWorldIconTypes type,
+			List<CoordinatesInWorld> froms,
+			long maxDistance) {
+		return froms
+				.parallelStream()
+				.map(from -> nearestStructure(type, from, maxDistance))
+				.collect(Collectors.toList());
+	}
+
+	private WorldIcon nearest(
+			WorldIconProducer<Void> producer,
+			String label,
+			CoordinatesInWorld from,
+			long maxDistance) {
+		return producer.getNearest(from, maxDistance, icon -> icon.getName().equals(label), corner -> null);
+	}
+
 	/**
 	 * Unlocks the RunningLauncherProfile to allow the creation of another
 	 * world. However, this does not actually prevent the usage of this world.
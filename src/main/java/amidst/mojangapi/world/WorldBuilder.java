@@ -59,7 +59,19 @@ public class WorldBuilder {
 			MinecraftInterface minecraftInterface,
 			Consumer<World> onDisposeWorld,
 			WorldOptions worldOptions) throws MinecraftInterfaceException {
-		BiomeDataOracle biomeDataOracle = new BiomeDataOracle(minecraftInterface);
+		return from(minecraftInterface, false, onDisposeWorld, worldOptions);
+	}
+
+	/**
+	 * See {@link BiomeDataOracle#BiomeDataOracle(MinecraftInterface, boolean)}
+	 * for coalesceBiomeRequests.
+	 */
+	public World from(
+			MinecraftInterface minecraftInterface,
+			boolean coalesceBiomeRequests,
+			Consumer<World> onDisposeWorld,
+			WorldOptions worldOptions) throws MinecraftInterfaceException {
+		BiomeDataOracle biomeDataOracle = new BiomeDataOracle(minecraftInterface, coalesceBiomeRequests);
 		VersionFeatures versionFeatures = DefaultVersionFeatures.create(minecraftInterface.getRecognisedVersion());
 		return create(
 				minecraftInterface,
@@ -79,6 +91,14 @@ public class WorldBuilder {
 	public World fromSaveGame(MinecraftInterface minecraftInterface, Consumer<World> onDisposeWorld, SaveGame saveGame)
 			throws IOException,
 			MinecraftInterfaceException {
+		return fromSaveGame(minecraftInterface, false, onDisposeWorld, saveGame);
+	}
+
+	public World fromSaveGame(
+			MinecraftInterface minecraftInterface,
+			boolean coalesceBiomeRequests,
+			Consumer<World> onDisposeWorld,
+			SaveGame saveGame) throws IOException, MinecraftInterfaceException {
 		VersionFeatures versionFeatures = DefaultVersionFeatures.create(minecraftInterface.getRecognisedVersion());
 		MovablePlayerList movablePlayerList = new MovablePlayerList(
 				playerInformationProvider,
@@ -93,7 +113,7 @@ public class WorldBuilder {
 				saveGame.getGeneratorOptions(),
 				movablePlayerList,
 				versionFeatures,
-				new BiomeDataOracle(minecraftInterface),
+				new BiomeDataOracle(minecraftInterface, coalesceBiomeRequests),
 				new ImmutableWorldSpawnOracle(saveGame.getWorldSpawn()));
 	}
 
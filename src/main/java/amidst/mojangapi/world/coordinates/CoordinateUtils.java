@@ -33,6 +33,14 @@ public enum CoordinateUtils {
 		return inWorld - modulo(inWorld, Fragment.SIZE);
 	}
 
+	/**
+	 * @return world coordinates of the corner of the given coordinates
+	 *         fragment of the given level
+	 */
+	public static long toFragmentCorner(long inWorld, int level) {
+		return inWorld - modulo(inWorld, Fragment.getSize(level));
+	}
+
 	private static long modulo(long a, long b) {
 		return ((a % b) + b) % b;
 	}
@@ -98,6 +98,16 @@ public class CoordinatesInWorld implements Comparable<CoordinatesInWorld> {
 		return from(getXCornerOfFragment(), getYCornerOfFragment());
 	}
 
+	/**
+	 * Like {@link #toFragmentCorner()}, but for the fragments of the given
+	 * level, see {@link amidst.fragment.Fragment#MAX_LEVEL}.
+	 */
+	public CoordinatesInWorld toFragmentCorner(int level) {
+		return from(
+				CoordinateUtils.toFragmentCorner(xInWorld, level),
+				CoordinateUtils.toFragmentCorner(yInWorld, level));
+	}
+
 	public double getDistance(CoordinatesInWorld other) {
 		return Point.distance(xInWorld, yInWorld, other.xInWorld, other.yInWorld);
 	}
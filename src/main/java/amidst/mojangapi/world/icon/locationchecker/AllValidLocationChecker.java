@@ -19,4 +19,30 @@ public class AllValidLocationChecker implements LocationChecker {
 		}
 		return true;
 	}
+
+	/**
+	 * Only the valid locations of the first checker are passed to the other
+	 * checkers, so the first checker should be the cheapest one.
+	 */
+	@Override
+	public void forEachValidLocation(int x, int y, int width, int height, LocationConsumer consumer) {
+		if (checkers.length == 0) {
+			LocationChecker.super.forEachValidLocation(x, y, width, height, consumer);
+		} else {
+			checkers[0].forEachValidLocation(x, y, width, height, (validX, validY) -> {
+				if (isValidForOtherCheckers(validX, validY)) {
+					consumer.accept(validX, validY);
+				}
+			});
+		}
+	}
+
+	private boolean isValidForOtherCheckers(int x, int y) {
+		for (int i = 1; i < checkers.length; i++) {
+			if (!checkers[i].isValidLocation(x, y)) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
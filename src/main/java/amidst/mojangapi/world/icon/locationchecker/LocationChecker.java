@@ -5,4 +5,20 @@ import amidst.documentation.ThreadSafe;
 @ThreadSafe
 public interface LocationChecker {
 	boolean isValidLocation(int x, int y);
+
+	/**
+	 * Passes each location of the given area that is valid to the consumer.
+	 * The default implementation checks every location of the area.
+	 * Implementations that know where valid locations can be should override
+	 * this to skip the others.
+	 */
+	default void forEachValidLocation(int x, int y, int width, int height, LocationConsumer consumer) {
+		for (int i = x; i < x + width; i++) {
+			for (int j = y; j < y + height; j++) {
+				if (isValidLocation(i, j)) {
+					consumer.accept(i, j);
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,6 @@
+package amidst.mojangapi.world.icon.locationchecker;
+
+@FunctionalInterface
+public interface LocationConsumer {
+	void accept(int x, int y);
+}
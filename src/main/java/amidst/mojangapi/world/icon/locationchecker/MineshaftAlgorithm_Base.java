@@ -1,29 +1,36 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.Random;
-
 import amidst.documentation.Immutable;
+import amidst.util.FastRandom;
 
 @Immutable
 public abstract class MineshaftAlgorithm_Base implements LocationChecker {
 	private final long seed;
-
+	private final long multiplierForChunkX;
+	private final long multiplierForChunkY;
+
+	/**
+	 * Minecraft seeds a new random number generator with the world seed for
+	 * every chunk and takes the first two longs. These are the same for all
+	 * chunks, so we compute them only once.
+	 */
 	public MineshaftAlgorithm_Base(long seed) {
 		this.seed = seed;
+		FastRandom random = new FastRandom(seed);
+		this.multiplierForChunkX = random.nextLong();
+		this.multiplierForChunkY = random.nextLong();
 	}
 
 	@Override
 	public boolean isValidLocation(int chunkX, int chunkY) {
-		Random random = new Random(seed);
-
-		long var13 = (long) chunkX * random.nextLong();
-		long var15 = (long) chunkY * random.nextLong();
+		long var13 = chunkX * multiplierForChunkX;
+		long var15 = chunkY * multiplierForChunkY;
 
-		random.setSeed(var13 ^ var15 ^ seed);
+		FastRandom random = new FastRandom(var13 ^ var15 ^ seed);
 		random.nextInt();
 
 		return getResult(chunkX, chunkY, random) && random.nextInt(80) < Math.max(Math.abs(chunkX), Math.abs(chunkY));
 	}
 
-	protected abstract boolean getResult(int chunkX, int chunkY, Random random);
+	protected abstract boolean getResult(int chunkX, int chunkY, FastRandom random);
 }
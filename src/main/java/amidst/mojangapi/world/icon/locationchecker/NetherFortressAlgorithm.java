@@ -1,8 +1,7 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.Random;
-
 import amidst.documentation.Immutable;
+import amidst.util.FastRandom;
 
 @Immutable
 public class NetherFortressAlgorithm implements LocationChecker {
@@ -16,7 +15,7 @@ public class NetherFortressAlgorithm implements LocationChecker {
 	public boolean isValidLocation(int x, int y) {
 		int i = x >> 4;
 		int j = y >> 4;
-		Random random = new Random(i ^ j << 4 ^ seed);
+		FastRandom random = new FastRandom(i ^ j << 4 ^ seed);
 		random.nextInt();
 		// @formatter:off
 		return random.nextInt(3) == 0
@@ -1,8 +1,7 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.Random;
-
 import amidst.documentation.Immutable;
+import amidst.util.FastRandom;
 
 @Immutable
 public class StructureAlgorithm implements LocationChecker {
@@ -58,12 +57,36 @@ public class StructureAlgorithm implements LocationChecker {
 	public boolean isValidLocation(int x, int y) {
 		int value1 = getInitialValue(x);
 		int value2 = getInitialValue(y);
-		Random random = new Random(getSeed(value1, value2));
+		FastRandom random = new FastRandom(getSeed(value1, value2));
 		value1 = updateValue(random, value1);
 		value2 = updateValue(random, value2);
 		return x == value1 && y == value2;
 	}
 
+	/**
+	 * Each region contains at most one valid location, so this computes the
+	 * candidate of each region that overlaps the area once, instead of
+	 * checking every location of the area.
+	 */
+	@Override
+	public void forEachValidLocation(int x, int y, int width, int height, LocationConsumer consumer) {
+		int right = x + width - 1;
+		int bottom = y + height - 1;
+		int lastValue1 = getInitialValue(right);
+		int lastValue2 = getInitialValue(bottom);
+		for (int value1 = getInitialValue(x); value1 <= lastValue1; value1++) {
+			for (int value2 = getInitialValue(y); value2 <= lastValue2; value2++) {
+				FastRandom random = new FastRandom(getSeed(value1, value2));
+				int candidateX = updateValue(random, value1);
+				int candidateY = updateValue(random, value2);
+				if (candidateX >= x && candidateX <= right && candidateY >= y && candidateY <= bottom
+						&& getInitialValue(candidateX) == value1 && getInitialValue(candidateY) == value2) {
+					consumer.accept(candidateX, candidateY);
+				}
+			}
+		}
+	}
+
 	private int getInitialValue(int coordinate) {
 		return getModified(coordinate) / maxDistanceBetweenScatteredFeatures;
 	}
@@ -90,7 +113,7 @@ public class StructureAlgorithm implements LocationChecker {
 		// @formatter:on
 	}
 
-	private int updateValue(Random random, int value) {
+	private int updateValue(FastRandom random, int value) {
 		int result = value * maxDistanceBetweenScatteredFeatures;
 		if (useTwoValuesForUpdate) {
 			result += (random.nextInt(distanceBetweenScatteredFeaturesRange)
@@ -39,11 +39,14 @@ public class StructureProducer<T> extends WorldIconProducer<T> {
 
 	@Override
 	public void produce(CoordinatesInWorld corner, Consumer<WorldIcon> consumer, T additionalData) {
-		for (int xRelativeToFragment = 0; xRelativeToFragment < size; xRelativeToFragment++) {
-			for (int yRelativeToFragment = 0; yRelativeToFragment < size; yRelativeToFragment++) {
-				generateAt(corner, consumer, additionalData, xRelativeToFragment, yRelativeToFragment);
-			}
-		}
+		int left = (int) corner.getXAs(resolution);
+		int top = (int) corner.getYAs(resolution);
+		checker.forEachValidLocation(
+				left,
+				top,
+				size,
+				size,
+				(x, y) -> generateAt(corner, consumer, additionalData, x, y, x - left, y - top));
 	}
 
 	// TODO: use longs?
@@ -51,22 +54,20 @@ public class StructureProducer<T> extends WorldIconProducer<T> {
 			CoordinatesInWorld corner,
 			Consumer<WorldIcon> consumer,
 			T additionalData,
+			int x,
+			int y,
 			int xRelativeToFragment,
 			int yRelativeToFragment) {
-		int x = xRelativeToFragment + (int) corner.getXAs(resolution);
-		int y = yRelativeToFragment + (int) corner.getYAs(resolution);
-		if (checker.isValidLocation(x, y)) {
-			DefaultWorldIconTypes worldIconType = provider.get(x, y, additionalData);
-			if (worldIconType != null) {
-				CoordinatesInWorld coordinates = createCoordinates(corner, xRelativeToFragment, yRelativeToFragment);
-				consumer.accept(
-						new WorldIcon(
-								coordinates,
-								worldIconType.getLabel(),
-								worldIconType.getImage(),
-								dimension,
-								displayDimension));
-			}
+		DefaultWorldIconTypes worldIconType = provider.get(x, y, additionalData);
+		if (worldIconType != null) {
+			CoordinatesInWorld coordinates = createCoordinates(corner, xRelativeToFragment, yRelativeToFragment);
+			consumer.accept(
+					new WorldIcon(
+							coordinates,
+							worldIconType.getLabel(),
+							worldIconType.getImage(),
+							dimension,
+							displayDimension));
 		}
 	}
 
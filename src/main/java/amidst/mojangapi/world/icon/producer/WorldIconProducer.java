@@ -2,13 +2,22 @@ package amidst.mojangapi.world.icon.producer;
 
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import amidst.documentation.ThreadSafe;
+import amidst.fragment.Fragment;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 import amidst.mojangapi.world.icon.WorldIcon;
 
 @ThreadSafe
 public abstract class WorldIconProducer<T> {
+	/**
+	 * The world icons of a fragment might be placed a bit outside of it, e.g.
+	 * the nether fortresses are shifted by 88 blocks.
+	 */
+	private static final long MAX_OFFSET_OUTSIDE_OF_FRAGMENT = 128;
+
 	public abstract void produce(CoordinatesInWorld corner, Consumer<WorldIcon> consumer, T additionalData);
 
 	public List<WorldIcon> getAt(CoordinatesInWorld corner, T additionalData) {
@@ -16,4 +25,64 @@ public abstract class WorldIconProducer<T> {
 		produce(corner, collector, additionalData);
 		return collector.get();
 	}
+
+	/**
+	 * Returns the closest world icon to from that matches the filter, or null
+	 * if there is none within maxDistance. The fragments are searched in
+	 * square rings around the fragment that contains from. The search stops
+	 * as soon as no fragment of the next ring can contain a closer world icon.
+	 */
+	public WorldIcon getNearest(
+			CoordinatesInWorld from,
+			long maxDistance,
+			Predicate<WorldIcon> filter,
+			Function<CoordinatesInWorld, T> additionalDataFactory) {
+		CoordinatesInWorld center = from.toFragmentCorner();
+		WorldIcon result = null;
+		double resultDistanceSq = (double) maxDistance * maxDistance;
+		for (long ring = 0; !canSkipRing(ring, result, resultDistanceSq, maxDistance); ring++) {
+			for (long x = -ring; x <= ring; x++) {
+				for (long y = -ring; y <= ring; y++) {
+					if (Math.abs(x) == ring || Math.abs(y) == ring) {
+						CoordinatesInWorld corner = center.add(x * Fragment.SIZE, y * Fragment.SIZE);
+						for (WorldIcon worldIcon : getAt(corner, additionalDataFactory.apply(corner))) {
+							double distanceSq = worldIcon.getCoordinates().getDistanceSq(from);
+							if (filter.test(worldIcon) && isCloser(worldIcon, distanceSq, result, resultDistanceSq)) {
+								result = worldIcon;
+								resultDistanceSq = distanceSq;
+							}
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The world icons of the given ring are at least this far away from the
+	 * coordinates in the center fragment.
+	 */
+	private boolean canSkipRing(long ring, WorldIcon result, double resultDistanceSq, long maxDistance) {
+		double minDistance = (ring - 1) * Fragment.SIZE - MAX_OFFSET_OUTSIDE_OF_FRAGMENT;
+		if (minDistance <= 0) {
+			return false;
+		} else if (minDistance > maxDistance) {
+			return true;
+		} else {
+			return result != null && minDistance * minDistance > resultDistanceSq;
+		}
+	}
+
+	/**
+	 * Prefers the world icon with the smaller coordinates if both are equally
+	 * far away, so the result does not depend on the search order.
+	 */
+	private boolean isCloser(WorldIcon worldIcon, double distanceSq, WorldIcon result, double resultDistanceSq) {
+		if (distanceSq != resultDistanceSq) {
+			return distanceSq < resultDistanceSq;
+		} else {
+			return result == null || worldIcon.getCoordinates().compareTo(result.getCoordinates()) < 0;
+		}
+	}
 }
@@ -3,6 +3,7 @@ package amidst.mojangapi.world.oracle;
 import java.util.List;
 import java.util.Random;
 
+import amidst.documentation.NotThreadSafe;
 import amidst.documentation.ThreadSafe;
 import amidst.logging.AmidstLogger;
 import amidst.logging.AmidstMessageBox;
@@ -15,10 +16,53 @@ import amidst.mojangapi.world.coordinates.Resolution;
 
 @ThreadSafe
 public class BiomeDataOracle {
+	/**
+	 * A window covers the quarter resolution biome data of one fragment, which
+	 * is 128 quarter resolution cells wide.
+	 */
+	private static final int WINDOW_SIZE = 128;
+
+	/**
+	 * The quarter resolution biome data of the last fragment that was
+	 * populated by a thread.
+	 */
+	@NotThreadSafe
+	private static class Window {
+		private final int[] data = new int[WINDOW_SIZE * WINDOW_SIZE];
+		private int left;
+		private int top;
+		private boolean isValid = false;
+
+		private boolean contains(int x, int y, int width, int height) {
+			return isValid && x >= left && y >= top && x + width <= left + WINDOW_SIZE
+					&& y + height <= top + WINDOW_SIZE;
+		}
+	}
+
+	/**
+	 * Each thread reuses its own buffer for the biome data, so no array is
+	 * allocated per request.
+	 */
+	private final ThreadLocal<int[]> buffers = ThreadLocal.withInitial(() -> new int[0]);
+	private final ThreadLocal<Window> windows = ThreadLocal.withInitial(Window::new);
 	private final MinecraftInterface minecraftInterface;
+	private final boolean coalesceRequests;
 
 	public BiomeDataOracle(MinecraftInterface minecraftInterface) {
+		this(minecraftInterface, false);
+	}
+
+	/**
+	 * If coalesceRequests is true, each thread keeps the quarter resolution
+	 * biome data of the last fragment it populated. The quarter resolution
+	 * requests of the structure checks that lie completely within that
+	 * fragment are answered from it instead of being passed to the minecraft
+	 * interface one by one. This works, because the fragment loader populates
+	 * the biome data of a fragment before it loads its structures.
+	 */
+	public BiomeDataOracle(MinecraftInterface minecraftInterface, boolean coalesceRequests) {
 		this.minecraftInterface = minecraftInterface;
+		this.coalesceRequests = coalesceRequests;
 	}
 
 	public void populateArray(CoordinatesInWorld corner, short[][] result, boolean useQuarterResolution) {
@@ -29,7 +73,11 @@ public class BiomeDataOracle {
 			int left = (int) corner.getXAs(resolution);
 			int top = (int) corner.getYAs(resolution);
 			try {
-				copyToResult(result, width, height, getBiomeData(left, top, width, height, useQuarterResolution));
+				if (coalesceRequests && useQuarterResolution && isWindow(left, top, width, height)) {
+					copyToResult(result, width, height, getWindowBiomeData(left, top));
+				} else {
+					copyToResult(result, width, height, getBiomeData(left, top, width, height, useQuarterResolution));
+				}
 			} catch (MinecraftInterfaceException e) {
 				AmidstLogger.error(e);
 				AmidstMessageBox.displayError("Error", e);
@@ -37,6 +85,59 @@ public class BiomeDataOracle {
 		}
 	}
 
+	/**
+	 * Like populateArray with quarter resolution, but each element of the
+	 * result stands for 2^level by 2^level quarter resolution biomes, see
+	 * {@link amidst.fragment.Fragment#MAX_LEVEL}. If the minecraft interface
+	 * cannot generate these coarse biomes directly, the quarter resolution
+	 * biomes are requested in windows, like for a fragment of level 0, and
+	 * only the biome in the corner of each square is used. This way, the
+	 * requests can be answered by the biome cache, but they still cost as much
+	 * as all fragments of level 0 that are covered by the result.
+	 */
+	public void populateCoarseArray(CoordinatesInWorld corner, short[][] result, int level) {
+		if (level == 0) {
+			populateArray(corner, result, true);
+			return;
+		}
+		int width = result.length;
+		if (width > 0) {
+			int height = result[0].length;
+			int left = (int) corner.getXAs(Resolution.QUARTER);
+			int top = (int) corner.getYAs(Resolution.QUARTER);
+			try {
+				int[] biomeData = getBuffer(width * height);
+				if (minecraftInterface
+						.getCoarseBiomeData(left >> level, top >> level, width, height, level, biomeData, 0, width)) {
+					copyToResult(result, width, height, biomeData);
+				} else {
+					sampleToResult(result, width, height, left, top, level);
+				}
+			} catch (MinecraftInterfaceException e) {
+				AmidstLogger.error(e);
+				AmidstMessageBox.displayError("Error", e);
+			}
+		}
+	}
+
+	private void sampleToResult(short[][] result, int width, int height, int left, int top, int level)
+			throws MinecraftInterfaceException {
+		int windowSteps = WINDOW_SIZE >> level;
+		for (int windowY = 0; windowY < height; windowY += windowSteps) {
+			for (int windowX = 0; windowX < width; windowX += windowSteps) {
+				int[] biomeData = getWindowBiomeData(left + (windowX << level), top + (windowY << level));
+				for (int y = 0; y < windowSteps && windowY + y < height; y++) {
+					for (int x = 0; x < windowSteps && windowX + x < width; x++) {
+						result[windowX + x][windowY + y] = (short) biomeData[getBiomeDataIndex(
+								x << level,
+								y << level,
+								WINDOW_SIZE)];
+					}
+				}
+			}
+		}
+	}
+
 	public static void copyToResult(short[][] result, int width, int height, int[] biomeData) {
 		for (int y = 0; y < height; y++) {
 			for (int x = 0; x < width; x++) {
@@ -165,15 +266,60 @@ public class BiomeDataOracle {
 
 	private int[] getQuarterResolutionBiomeData(int x, int y, int width, int height)
 			throws MinecraftInterfaceException {
+		if (coalesceRequests) {
+			Window window = windows.get();
+			if (window.contains(x, y, width, height)) {
+				return copyFromWindow(window, x, y, width, height);
+			}
+		}
 		return getBiomeData(x, y, width, height, true);
 	}
 
+	private static boolean isWindow(int x, int y, int width, int height) {
+		return width == WINDOW_SIZE && height == WINDOW_SIZE && x % WINDOW_SIZE == 0 && y % WINDOW_SIZE == 0;
+	}
+
+	private int[] getWindowBiomeData(int x, int y) throws MinecraftInterfaceException {
+		Window window = windows.get();
+		window.isValid = false;
+		minecraftInterface.getBiomeData(x, y, WINDOW_SIZE, WINDOW_SIZE, true, window.data, 0, WINDOW_SIZE);
+		window.left = x;
+		window.top = y;
+		window.isValid = true;
+		return window.data;
+	}
+
+	private int[] copyFromWindow(Window window, int x, int y, int width, int height) {
+		int[] buffer = getBuffer(width * height);
+		int offset = (x - window.left) + (y - window.top) * WINDOW_SIZE;
+		for (int row = 0; row < height; row++) {
+			System.arraycopy(window.data, offset + row * WINDOW_SIZE, buffer, row * width, width);
+		}
+		return buffer;
+	}
+
 	private int[] getFullResolutionBiomeData(int x, int y, int width, int height) throws MinecraftInterfaceException {
 		return getBiomeData(x, y, width, height, false);
 	}
 
+	/**
+	 * The returned array is the buffer of the current thread. It is only valid
+	 * until the next request of the same thread and it might be larger than
+	 * the requested area.
+	 */
 	private int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
 			throws MinecraftInterfaceException {
-		return minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution);
+		int[] buffer = getBuffer(width * height);
+		minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution, buffer, 0, width);
+		return buffer;
+	}
+
+	private int[] getBuffer(int size) {
+		int[] result = buffers.get();
+		if (result.length < size) {
+			result = new int[size];
+			buffers.set(result);
+		}
+		return result;
 	}
 }
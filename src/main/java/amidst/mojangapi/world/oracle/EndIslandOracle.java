@@ -69,7 +69,15 @@ public class EndIslandOracle {
 	}
 
 	public List<EndIsland> getAt(CoordinatesInWorld corner) {
-		int steps = Resolution.CHUNK.getStepsPerFragment();
+		return getAt(corner, Resolution.FRAGMENT.getStep());
+	}
+
+	/**
+	 * Returns a list of all islands that might be touching the square with the
+	 * given corner and size in blocks.
+	 */
+	public List<EndIsland> getAt(CoordinatesInWorld corner, int size) {
+		int steps = (int) Resolution.CHUNK.convertFromWorldToThis(size);
 		return findSurroundingIslands(
 				(int) corner.getXAs(Resolution.CHUNK),
 				(int) corner.getYAs(Resolution.CHUNK),
@@ -1,8 +1,7 @@
 package amidst.mojangapi.world.oracle;
 
-import java.util.Random;
-
 import amidst.documentation.Immutable;
+import amidst.util.FastRandom;
 
 @Immutable
 public class SlimeChunkOracle {
@@ -13,10 +12,40 @@ public class SlimeChunkOracle {
 	}
 
 	public boolean isSlimeChunk(long chunkX, long chunkY) {
-		Random random = new Random(getSeed((int) chunkX, (int) chunkY));
+		FastRandom random = new FastRandom(getSeed((int) chunkX, (int) chunkY));
 		return isSlimeChunk(random);
 	}
 
+	/**
+	 * Fills the bitmap with the slime chunks of the given area. The chunk
+	 * (chunkX + x, chunkY + y) is a slime chunk, if the bit (x + y * width) is
+	 * set, where bit i is stored in bitmap[i / 64] at position i % 64. The
+	 * bitmap needs to hold at least width * height bits. This is much faster
+	 * than calling isSlimeChunk for each chunk.
+	 */
+	public void getSlimeChunks(long chunkX, long chunkY, int width, int height, long[] bitmap) {
+		int numberOfBits = width * height;
+		long[] seedsOfColumns = new long[width];
+		for (int x = 0; x < width; x++) {
+			seedsOfColumns[x] = getSeedOfColumn((int) (chunkX + x));
+		}
+		FastRandom random = new FastRandom(0);
+		for (int i = 0; i < (numberOfBits + 63) >> 6; i++) {
+			bitmap[i] = 0;
+		}
+		for (int y = 0; y < height; y++) {
+			long seedOfRow = getSeedOfRow((int) (chunkY + y));
+			int index = y * width;
+			for (int x = 0; x < width; x++) {
+				random.setSeed(seedsOfColumns[x] + seedOfRow ^ 0x3ad8025f);
+				if (isSlimeChunk(random)) {
+					bitmap[index >> 6] |= 1L << index;
+				}
+				index++;
+			}
+		}
+	}
+
 	/**
 	 * Make sure this uses integers for the parameters chunkX and chunkY and
 	 * long for the seed. This ensure the overflow works as in Minecraft.
@@ -26,7 +55,20 @@ public class SlimeChunkOracle {
 				^ 0x3ad8025f;
 	}
 
-	private boolean isSlimeChunk(Random random) {
+	/**
+	 * The same as getSeed, but split into the part that depends on chunkX and
+	 * the part that depends on chunkY. Their sum has to be xor'ed with
+	 * 0x3ad8025f.
+	 */
+	private long getSeedOfColumn(int chunkX) {
+		return seed + chunkX * chunkX * 0x4c1906 + chunkX * 0x5ac0db;
+	}
+
+	private long getSeedOfRow(int chunkY) {
+		return chunkY * chunkY * 0x4307a7L + chunkY * 0x5f24f;
+	}
+
+	private boolean isSlimeChunk(FastRandom random) {
 		return random.nextInt(10) == 0;
 	}
 }
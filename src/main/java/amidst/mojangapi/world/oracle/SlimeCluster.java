@@ -0,0 +1,43 @@
+package amidst.mojangapi.world.oracle;
+
+import amidst.documentation.Immutable;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+
+/**
+ * An AFK position in the middle of a chunk and the number of slime chunks
+ * within the AFK radius around it. The natural order puts the cluster with
+ * the most slime chunks first. Clusters with the same number of slime chunks
+ * are ordered by their AFK position.
+ */
+@Immutable
+public class SlimeCluster implements Comparable<SlimeCluster> {
+	private final CoordinatesInWorld afkPosition;
+	private final int numberOfSlimeChunks;
+
+	public SlimeCluster(CoordinatesInWorld afkPosition, int numberOfSlimeChunks) {
+		this.afkPosition = afkPosition;
+		this.numberOfSlimeChunks = numberOfSlimeChunks;
+	}
+
+	public CoordinatesInWorld getAfkPosition() {
+		return afkPosition;
+	}
+
+	public int getNumberOfSlimeChunks() {
+		return numberOfSlimeChunks;
+	}
+
+	@Override
+	public int compareTo(SlimeCluster o) {
+		if (numberOfSlimeChunks != o.numberOfSlimeChunks) {
+			return Integer.compare(o.numberOfSlimeChunks, numberOfSlimeChunks);
+		} else {
+			return afkPosition.compareTo(o.afkPosition);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return afkPosition + " with " + numberOfSlimeChunks + " slime chunks";
+	}
+}
@@ -0,0 +1,258 @@
+package amidst.mojangapi.world.oracle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import amidst.documentation.NotThreadSafe;
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.coordinates.Resolution;
+
+/**
+ * Finds the AFK positions with the most slime chunks around them. Slimes only
+ * spawn within 128 blocks of the player, so a slime chunk counts if the
+ * middle of the chunk is within 8 chunks of the chunk with the AFK position.
+ *
+ * The search area is split into tiles which are searched in parallel. Each
+ * tile gets the slime chunks of the tile and its margin as a bitmap and builds
+ * a summed-area table from it. The number of slime chunks within the AFK
+ * radius is then the sum of one row span per row of the circle, each of which
+ * takes four lookups in the table.
+ */
+@ThreadSafe
+public class SlimeClusterFinder {
+	@NotThreadSafe
+	private static class TopList {
+		private final int size;
+		private final PriorityQueue<SlimeCluster> worstFirst = new PriorityQueue<>(Collections.reverseOrder());
+
+		public TopList(int size) {
+			this.size = size;
+		}
+
+		/**
+		 * Tells whether a cluster with this number of slime chunks might get
+		 * into the list, without creating it.
+		 */
+		public boolean mightAccept(int numberOfSlimeChunks) {
+			return worstFirst.size() < size || worstFirst.peek().getNumberOfSlimeChunks() <= numberOfSlimeChunks;
+		}
+
+		public boolean offer(SlimeCluster cluster) {
+			if (worstFirst.size() < size) {
+				worstFirst.add(cluster);
+				return true;
+			} else if (cluster.compareTo(worstFirst.peek()) < 0) {
+				worstFirst.poll();
+				worstFirst.add(cluster);
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		public List<SlimeCluster> toSortedList() {
+			List<SlimeCluster> result = new ArrayList<>(worstFirst);
+			Collections.sort(result);
+			return result;
+		}
+	}
+
+	@NotThreadSafe
+	private class TileSearch extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final long firstChunkX;
+		private final long firstChunkY;
+		private final int tilesPerSide;
+		private final int widthInChunks;
+		private final int fromTile;
+		private final int toTile;
+		private final TopList result;
+		private final Consumer<SlimeCluster> consumer;
+
+		public TileSearch(
+				long firstChunkX,
+				long firstChunkY,
+				int tilesPerSide,
+				int widthInChunks,
+				int fromTile,
+				int toTile,
+				TopList result,
+				Consumer<SlimeCluster> consumer) {
+			this.firstChunkX = firstChunkX;
+			this.firstChunkY = firstChunkY;
+			this.tilesPerSide = tilesPerSide;
+			this.widthInChunks = widthInChunks;
+			this.fromTile = fromTile;
+			this.toTile = toTile;
+			this.result = result;
+			this.consumer = consumer;
+		}
+
+		@Override
+		protected void compute() {
+			if (toTile - fromTile == 1) {
+				int tileX = fromTile % tilesPerSide;
+				int tileY = fromTile / tilesPerSide;
+				searchTile(
+						firstChunkX + tileX * TILE_SIZE,
+						firstChunkY + tileY * TILE_SIZE,
+						Math.min(TILE_SIZE, widthInChunks - tileX * TILE_SIZE),
+						Math.min(TILE_SIZE, widthInChunks - tileY * TILE_SIZE),
+						result,
+						consumer);
+			} else {
+				int middle = (fromTile + toTile) >>> 1;
+				invokeAll(
+						new TileSearch(
+								firstChunkX,
+								firstChunkY,
+								tilesPerSide,
+								widthInChunks,
+								fromTile,
+								middle,
+								result,
+								consumer),
+						new TileSearch(
+								firstChunkX,
+								firstChunkY,
+								tilesPerSide,
+								widthInChunks,
+								middle,
+								toTile,
+								result,
+								consumer));
+			}
+		}
+	}
+
+	private static final int AFK_RADIUS = 8;
+	private static final int TILE_SIZE = 256;
+	private static final int[] HALF_WIDTHS = createHalfWidths();
+
+	/**
+	 * The row of the circle with the offset dy to the middle covers the
+	 * offsets -HALF_WIDTHS[dy + AFK_RADIUS] to HALF_WIDTHS[dy + AFK_RADIUS].
+	 */
+	private static int[] createHalfWidths() {
+		int[] result = new int[2 * AFK_RADIUS + 1];
+		for (int dy = -AFK_RADIUS; dy <= AFK_RADIUS; dy++) {
+			int halfWidth = 0;
+			while ((halfWidth + 1) * (halfWidth + 1) + dy * dy <= AFK_RADIUS * AFK_RADIUS) {
+				halfWidth++;
+			}
+			result[dy + AFK_RADIUS] = halfWidth;
+		}
+		return result;
+	}
+
+	private final SlimeChunkOracle slimeChunkOracle;
+	private final ForkJoinPool forkJoinPool;
+
+	public SlimeClusterFinder(SlimeChunkOracle slimeChunkOracle, ForkJoinPool forkJoinPool) {
+		this.slimeChunkOracle = slimeChunkOracle;
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * Searches the AFK positions in the middle of all chunks that are at most
+	 * searchRadius chunks away from the chunk of the center in both
+	 * directions. Returns the best numberOfResults clusters, best first.
+	 *
+	 * Whenever a tile is finished, each of its clusters that gets into the
+	 * current list of the best clusters is passed to the consumer right away.
+	 * Such a cluster might be pushed out of the list by a later tile. The
+	 * consumer is called by the threads of the fork/join pool, but never by
+	 * two threads at the same time.
+	 */
+	public List<SlimeCluster> find(
+			CoordinatesInWorld center,
+			int searchRadius,
+			int numberOfResults,
+			Consumer<SlimeCluster> consumer) {
+		int widthInChunks = 2 * searchRadius + 1;
+		int tilesPerSide = (widthInChunks + TILE_SIZE - 1) / TILE_SIZE;
+		TopList result = new TopList(numberOfResults);
+		forkJoinPool.invoke(
+				new TileSearch(
+						center.getXAs(Resolution.CHUNK) - searchRadius,
+						center.getYAs(Resolution.CHUNK) - searchRadius,
+						tilesPerSide,
+						widthInChunks,
+						0,
+						tilesPerSide * tilesPerSide,
+						result,
+						consumer));
+		return result.toSortedList();
+	}
+
+	private void searchTile(
+			long chunkX,
+			long chunkY,
+			int width,
+			int height,
+			TopList result,
+			Consumer<SlimeCluster> consumer) {
+		int[] table = createSummedAreaTable(chunkX - AFK_RADIUS, chunkY - AFK_RADIUS, width, height);
+		int stride = width + 2 * AFK_RADIUS + 1;
+		TopList tileResult = new TopList(result.size);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int numberOfSlimeChunks = 0;
+				for (int row = y; row <= y + 2 * AFK_RADIUS; row++) {
+					int halfWidth = HALF_WIDTHS[row - y];
+					int left = x + AFK_RADIUS - halfWidth;
+					int right = x + AFK_RADIUS + halfWidth + 1;
+					// @formatter:off
+					numberOfSlimeChunks += table[(row + 1) * stride + right] - table[(row + 1) * stride + left]
+					                     - table[ row      * stride + right] + table[ row      * stride + left];
+					// @formatter:on
+				}
+				if (tileResult.mightAccept(numberOfSlimeChunks)) {
+					tileResult.offer(new SlimeCluster(createAfkPosition(chunkX + x, chunkY + y), numberOfSlimeChunks));
+				}
+			}
+		}
+		synchronized (result) {
+			for (SlimeCluster cluster : tileResult.toSortedList()) {
+				if (result.offer(cluster)) {
+					consumer.accept(cluster);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The entry (x, y) of the table is the number of slime chunks in the
+	 * rectangle from (chunkX, chunkY) inclusive to (chunkX + x, chunkY + y)
+	 * exclusive.
+	 */
+	private int[] createSummedAreaTable(long chunkX, long chunkY, int width, int height) {
+		int bitmapWidth = width + 2 * AFK_RADIUS;
+		int bitmapHeight = height + 2 * AFK_RADIUS;
+		long[] bitmap = new long[(bitmapWidth * bitmapHeight + 63) >> 6];
+		slimeChunkOracle.getSlimeChunks(chunkX, chunkY, bitmapWidth, bitmapHeight, bitmap);
+		int stride = bitmapWidth + 1;
+		int[] result = new int[stride * (bitmapHeight + 1)];
+		int i = 0;
+		for (int y = 0; y < bitmapHeight; y++) {
+			int sumOfRow = 0;
+			for (int x = 0; x < bitmapWidth; x++) {
+				sumOfRow += (int) (bitmap[i >> 6] >>> i) & 1;
+				i++;
+				result[(y + 1) * stride + x + 1] = result[y * stride + x + 1] + sumOfRow;
+			}
+		}
+		return result;
+	}
+
+	private CoordinatesInWorld createAfkPosition(long chunkX, long chunkY) {
+		return CoordinatesInWorld.from(chunkX * 16 + 8, chunkY * 16 + 8);
+	}
+}
@@ -25,6 +25,13 @@ public class TaskQueue {
 		return result;
 	}
 
+	/**
+	 * Returns true, if there is at least one task waiting to be executed.
+	 */
+	public boolean hasTasks() {
+		return !tasks.isEmpty();
+	}
+
 	public void invoke(Runnable runnable) {
 		tasks.offer(runnable);
 	}
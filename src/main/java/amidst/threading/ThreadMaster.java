@@ -12,6 +12,13 @@ import amidst.documentation.ThreadSafe;
 
 @ThreadSafe
 public class ThreadMaster {
+	/**
+	 * The fragment loaders are woken up as soon as there is new work. This
+	 * timeout is only a safety net for work that is not signalled, like
+	 * trimming the fragment cache.
+	 */
+	private static final long FRAGMENT_LOADER_TIMEOUT_IN_MILLISECONDS = 1000;
+
 	private static final Runnable NOOP = new Runnable() {
 		@Override
 		public void run() {
@@ -19,15 +26,25 @@ public class ThreadMaster {
 		}
 	};
 
+	private final int numberOfFragmentLoaders;
 	private final ScheduledExecutorService repaintExecutorService;
-	private final ScheduledExecutorService fragmentLoaderExecutorService;
+	private final ExecutorService fragmentLoaderExecutorService;
+	private final WakeUpSignal fragmentLoaderSignal = new WakeUpSignal();
 	private final ExecutorService workerExecutorService;
 	private final WorkerExecutor workerExecutor;
 
 	private volatile Runnable onRepaintTick;
 	private volatile Runnable onFragmentLoadTick;
 
-	public ThreadMaster() {
+	/**
+	 * The fragment loader tick is executed by the given number of threads
+	 * concurrently, so it has to be thread-safe if this is greater than one.
+	 */
+	public ThreadMaster(int numberOfFragmentLoaders) {
+		if (numberOfFragmentLoaders < 1) {
+			throw new IllegalArgumentException("at least one fragment loader is required");
+		}
+		this.numberOfFragmentLoaders = numberOfFragmentLoaders;
 		this.repaintExecutorService = createRepaintExecutorService();
 		this.fragmentLoaderExecutorService = createFragmentLoaderExecutorService();
 		this.workerExecutorService = createWorkerExecutorService();
@@ -49,8 +66,8 @@ public class ThreadMaster {
 		});
 	}
 
-	private ScheduledExecutorService createFragmentLoaderExecutorService() {
-		return Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+	private ExecutorService createFragmentLoaderExecutorService() {
+		return Executors.newFixedThreadPool(numberOfFragmentLoaders, new ThreadFactory() {
 			@Override
 			public Thread newThread(Runnable r) {
 				Thread thread = new Thread(r);
@@ -87,13 +104,45 @@ public class ThreadMaster {
 	}
 
 	private void startFragmentLoader() {
-		fragmentLoaderExecutorService.scheduleWithFixedDelay(new Runnable() {
-			@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-			@Override
-			public void run() {
-				onFragmentLoadTick.run();
-			}
-		}, 0, 20, TimeUnit.MILLISECONDS);
+		for (int i = 0; i < numberOfFragmentLoaders; i++) {
+			fragmentLoaderExecutorService.execute(new Runnable() {
+				@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+				@Override
+				public void run() {
+					try {
+						runFragmentLoader();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * The signal count is read before the tick, so work that is signalled
+	 * during the tick is processed right after it.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void runFragmentLoader() throws InterruptedException {
+		while (true) {
+			long seenCount = fragmentLoaderSignal.getCount();
+			onFragmentLoadTick.run();
+			fragmentLoaderSignal.await(seenCount, FRAGMENT_LOADER_TIMEOUT_IN_MILLISECONDS);
+		}
+	}
+
+	/**
+	 * This needs to be called whenever there might be new work for the
+	 * fragment loaders, e.g. when a fragment is enqueued or a layer is
+	 * invalidated.
+	 */
+	public void wakeUpFragmentLoaders() {
+		fragmentLoaderSignal.signal();
+	}
+
+	public int getNumberOfFragmentLoaders() {
+		return numberOfFragmentLoaders;
 	}
 
 	public WorkerExecutor getWorkerExecutor() {
@@ -106,6 +155,7 @@ public class ThreadMaster {
 
 	public void setOnFragmentLoadTick(Runnable onFragmentLoadTick) {
 		this.onFragmentLoadTick = onFragmentLoadTick;
+		wakeUpFragmentLoaders();
 	}
 
 	public void clearOnRepaintTick() {
@@ -0,0 +1,45 @@
+package amidst.threading;
+
+import java.util.concurrent.TimeUnit;
+
+import amidst.documentation.ThreadSafe;
+
+/**
+ * This wakes up threads that wait for work. A waiting thread has to read the
+ * signal count before it checks for work and pass it to await. This way, a
+ * signal that arrives while the thread is still working is not lost: await
+ * returns immediately, because the count has changed in the meantime.
+ */
+@ThreadSafe
+public class WakeUpSignal {
+	private long count = 0;
+	private int numberOfWaitingThreads = 0;
+
+	public synchronized long getCount() {
+		return count;
+	}
+
+	public synchronized void signal() {
+		count++;
+		if (numberOfWaitingThreads > 0) {
+			notifyAll();
+		}
+	}
+
+	/**
+	 * Blocks until the signal count differs from the given count or until the
+	 * timeout elapses, whichever happens first.
+	 */
+	public synchronized void await(long seenCount, long timeoutInMilliseconds) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMilliseconds);
+		numberOfWaitingThreads++;
+		try {
+			long remaining;
+			while (count == seenCount && (remaining = deadline - System.nanoTime()) > 0) {
+				TimeUnit.NANOSECONDS.timedWait(this, remaining);
+			}
+		} finally {
+			numberOfWaitingThreads--;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package amidst.util;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Produces exactly the same numbers as java.util.Random, but without the
+ * synchronization of the AtomicLong seed. The state is a plain long field, so
+ * the JIT can keep it in a register. When an instance does not escape the
+ * method that creates it, the allocation is eliminated as well.
+ */
+@NotThreadSafe
+public final class FastRandom {
+	private static final long MULTIPLIER = 0x5DEECE66DL;
+	private static final long ADDEND = 0xBL;
+	private static final long MASK = (1L << 48) - 1;
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+	private long seed;
+
+	public FastRandom(long seed) {
+		setSeed(seed);
+	}
+
+	public void setSeed(long seed) {
+		this.seed = (seed ^ MULTIPLIER) & MASK;
+	}
+
+	private int next(int bits) {
+		seed = (seed * MULTIPLIER + ADDEND) & MASK;
+		return (int) (seed >>> (48 - bits));
+	}
+
+	public int nextInt() {
+		return next(32);
+	}
+
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		int r = next(31);
+		int m = bound - 1;
+		if ((bound & m) == 0) {
+			return (int) ((bound * (long) r) >> 31);
+		}
+		for (int u = r; u - (r = u % bound) + m < 0; u = next(31)) {
+		}
+		return r;
+	}
+
+	public long nextLong() {
+		return ((long) next(32) << 32) + next(32);
+	}
+
+	public double nextDouble() {
+		return (((long) next(26) << 27) + next(27)) * DOUBLE_UNIT;
+	}
+}
@@ -11,6 +11,7 @@ import amidst.ResourceLoader;
 import amidst.devtools.settings.DevToolSettings;
 import amidst.mojangapi.file.MinecraftInstallation;
 import amidst.mojangapi.file.VersionList;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
 import amidst.mojangapi.world.biome.Biome;
 import amidst.parsing.FormatException;
 
@@ -74,6 +75,30 @@ public class DevToolRunner {
 		new WorldGenerationBencher(benchmarksDirectory(), versionsDirectory(), librariesDirectory(), versionList()).run();
 	}
 
+	@Ignore
+	@Test
+	public void benchmarkFragmentLoading() throws InterruptedException {
+		new FragmentLoadingBencher().run();
+	}
+
+	@Ignore
+	@Test
+	public void benchmarkRepainting() throws InterruptedException {
+		new RepaintBencher().run();
+	}
+
+	@Ignore
+	@Test
+	public void benchmarkStructureLoading() throws MinecraftInterfaceException {
+		new StructureLoadingBencher().run();
+	}
+
+	@Ignore
+	@Test
+	public void benchmarkRandom() {
+		new RandomBencher().run();
+	}
+
 	private VersionList versionList() throws FormatException, IOException {
 		return VersionList.newRemoteVersionList();
 	}
@@ -0,0 +1,138 @@
+package amidst.devtools;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.fragment.FragmentManager;
+import amidst.fragment.FragmentQueueProcessor;
+import amidst.fragment.layer.LayerDeclaration;
+import amidst.fragment.layer.LayerLoader;
+import amidst.fragment.layer.LayerManager;
+import amidst.fragment.loader.FragmentLoader;
+import amidst.mojangapi.world.Dimension;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.settings.Settings;
+
+/**
+ * Measures the throughput of the fragment loader while the map is panned
+ * continuously. The fragments are not really loaded, so this only measures the
+ * overhead of the loading, recycling and available queues. The calling thread
+ * plays the role of the event dispatch thread.
+ */
+@NotThreadSafe
+public class FragmentLoadingBencher {
+	private static class CountingLoader extends FragmentLoader {
+		private final AtomicLong counter;
+
+		public CountingLoader(LayerDeclaration declaration, AtomicLong counter) {
+			super(declaration);
+			this.counter = counter;
+		}
+
+		@Override
+		public void load(Dimension dimension, Fragment fragment) {
+			counter.incrementAndGet();
+		}
+
+		@Override
+		public void reload(Dimension dimension, Fragment fragment) {
+			// noop
+		}
+	}
+
+	private static final int COLUMNS = 64;
+	private static final int ROWS = 48;
+	private static final long DURATION_IN_MILLISECONDS = 10000;
+
+	private final AtomicLong loadedFragments = new AtomicLong();
+	private final AtomicBoolean isRunning = new AtomicBoolean(true);
+	private final Deque<Fragment[]> columns = new ArrayDeque<>();
+	private final FragmentManager fragmentManager;
+	private final FragmentQueueProcessor fragmentQueueProcessor;
+	private long requestedFragments = 0;
+	private long nextColumn = 0;
+
+	public FragmentLoadingBencher() {
+		LayerDeclaration declaration = new LayerDeclaration(
+				0,
+				null,
+				false,
+				true,
+				Settings.createImmutable(true),
+				Settings.createImmutable(false));
+		List<FragmentLoader> loaders = Collections.singletonList(new CountingLoader(declaration, loadedFragments));
+		LayerManager layerManager = new LayerManager(
+				Collections.singletonList(declaration),
+				Collections.singletonList(new LayerLoader(loaders, 1)),
+				Collections.emptyList(),
+				() -> {
+				});
+		this.fragmentManager = new FragmentManager(
+				Collections.emptyList(),
+				1,
+				Long.MAX_VALUE,
+				0,
+				Settings.createImmutable(Dimension.OVERWORLD),
+				() -> {
+				});
+		this.fragmentQueueProcessor = fragmentManager.createQueueProcessors(layerManager, () -> {
+		}).get(0);
+	}
+
+	public void run() throws InterruptedException {
+		for (int i = 0; i < COLUMNS; i++) {
+			addColumn();
+		}
+		Thread loader = new Thread(this::runLoader);
+		loader.start();
+		long panSteps = 0;
+		long start = System.nanoTime();
+		long end = start + DURATION_IN_MILLISECONDS * 1000000;
+		while (System.nanoTime() < end) {
+			panRight();
+			panSteps++;
+		}
+		isRunning.set(false);
+		loader.join();
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.println("grid size:                 " + COLUMNS + " x " + ROWS + " fragments");
+		System.out.println("duration:                  " + String.format("%.2f s", seconds));
+		System.out.println("pan steps per second:      " + String.format("%.0f", panSteps / seconds));
+		System.out.println("requested fragments per s: " + String.format("%.0f", requestedFragments / seconds));
+		System.out.println("loaded fragments per s:    " + String.format("%.0f", loadedFragments.get() / seconds));
+		System.out.println("final loading queue size:  " + fragmentManager.getLoadingQueueSize());
+	}
+
+	private void runLoader() {
+		while (isRunning.get()) {
+			fragmentQueueProcessor.processQueues();
+		}
+	}
+
+	private void panRight() {
+		for (Fragment fragment : columns.removeFirst()) {
+			fragmentManager.recycleFragment(fragment);
+		}
+		addColumn();
+		fragmentManager.setVisibleArea(
+				CoordinatesInWorld.from((nextColumn - COLUMNS) * Fragment.SIZE, 0),
+				CoordinatesInWorld.from(nextColumn * Fragment.SIZE, ROWS * Fragment.SIZE));
+	}
+
+	private void addColumn() {
+		Fragment[] column = new Fragment[ROWS];
+		for (int y = 0; y < ROWS; y++) {
+			column[y] = fragmentManager
+					.requestFragment(CoordinatesInWorld.from(nextColumn * Fragment.SIZE, y * Fragment.SIZE), 0);
+			requestedFragments++;
+		}
+		columns.addLast(column);
+		nextColumn++;
+	}
+}
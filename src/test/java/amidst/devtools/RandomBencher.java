@@ -0,0 +1,85 @@
+package amidst.devtools;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+import amidst.documentation.NotThreadSafe;
+import amidst.util.FastRandom;
+
+/**
+ * Compares java.util.Random and FastRandom on the patterns of the slime
+ * chunk, structure and mineshaft checks. Each operation seeds a new random
+ * number generator like the checks do. The mineshaft check with FastRandom
+ * reuses the two longs that only depend on the world seed. Besides the time
+ * per operation, this prints the number of bytes that were allocated per
+ * operation.
+ */
+@NotThreadSafe
+public class RandomBencher {
+	private static final int OPERATIONS = 10_000_000;
+	private static final int ROUNDS = 5;
+	private static final long SEED = 123456;
+
+	private final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory
+			.getThreadMXBean();
+	private final long mineshaftMultiplierForChunkX;
+	private final long mineshaftMultiplierForChunkY;
+	private int sink = 0;
+
+	public RandomBencher() {
+		FastRandom random = new FastRandom(SEED);
+		this.mineshaftMultiplierForChunkX = random.nextLong();
+		this.mineshaftMultiplierForChunkY = random.nextLong();
+	}
+
+	public void run() {
+		for (int round = 0; round < ROUNDS; round++) {
+			System.out.println("round " + (round + 1) + " of " + ROUNDS);
+			measure("slime, java.util.Random", i -> new Random(SEED + i).nextInt(10));
+			measure("slime, FastRandom", i -> new FastRandom(SEED + i).nextInt(10));
+			measure("structure, java.util.Random", i -> {
+				Random random = new Random(SEED + i);
+				return random.nextInt(24) + random.nextInt(24);
+			});
+			measure("structure, FastRandom", i -> {
+				FastRandom random = new FastRandom(SEED + i);
+				return random.nextInt(24) + random.nextInt(24);
+			});
+			measure("mineshaft, java.util.Random", i -> {
+				Random random = new Random(SEED);
+				long value = i * random.nextLong() ^ i * random.nextLong();
+				random.setSeed(value ^ SEED);
+				random.nextInt();
+				return random.nextDouble() < 0.004 ? random.nextInt(80) : 0;
+			});
+			measure("mineshaft, FastRandom", i -> {
+				FastRandom random = new FastRandom(
+						i * mineshaftMultiplierForChunkX ^ i * mineshaftMultiplierForChunkY ^ SEED);
+				random.nextInt();
+				return random.nextDouble() < 0.004 ? random.nextInt(80) : 0;
+			});
+			System.out.println();
+		}
+		System.out.println("checksum: " + sink);
+	}
+
+	private void measure(String name, IntUnaryOperator operation) {
+		long threadId = Thread.currentThread().getId();
+		long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		int result = 0;
+		for (int i = 0; i < OPERATIONS; i++) {
+			result += operation.applyAsInt(i);
+		}
+		long nanoseconds = System.nanoTime() - start;
+		long bytes = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+		sink += result;
+		System.out.println(
+				String.format(
+						"%-30s %6.2f ns/op %8.2f bytes/op",
+						name,
+						(double) nanoseconds / OPERATIONS,
+						(double) bytes / OPERATIONS));
+	}
+}
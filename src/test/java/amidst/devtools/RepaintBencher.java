@@ -0,0 +1,127 @@
+package amidst.devtools;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.fragment.FragmentGraph;
+import amidst.fragment.FragmentManager;
+import amidst.fragment.drawer.FragmentDrawer;
+import amidst.fragment.layer.LayerDeclaration;
+import amidst.gui.main.viewer.DamageTracker;
+import amidst.gui.main.viewer.Drawer;
+import amidst.gui.main.viewer.FragmentGraphToScreenTranslator;
+import amidst.gui.main.viewer.Graphics2DAccelerationCounter;
+import amidst.gui.main.viewer.Movement;
+import amidst.gui.main.viewer.Zoom;
+import amidst.mojangapi.world.Dimension;
+import amidst.settings.Settings;
+
+/**
+ * Measures the CPU time that is used to display a static map, once with a
+ * repaint on every repainter tick and once with repaints driven by the damage
+ * tracker. The ticks are scheduled at a fixed rate, like the repainter
+ * ticks. Each fragment draws an image of the size of the biome layer. The
+ * calling thread plays the role of the repainter and the event dispatch
+ * thread.
+ */
+@NotThreadSafe
+public class RepaintBencher {
+	private static class ImageDrawer extends FragmentDrawer {
+		private final BufferedImage image = new BufferedImage(
+				Fragment.SIZE >> 2,
+				Fragment.SIZE >> 2,
+				BufferedImage.TYPE_INT_ARGB);
+
+		public ImageDrawer(LayerDeclaration declaration) {
+			super(declaration);
+		}
+
+		@Override
+		public void draw(Fragment fragment, Graphics2D g2d, float time) {
+			g2d.scale(4, 4);
+			g2d.drawImage(image, 0, 0, null);
+		}
+	}
+
+	private static final int VIEWER_WIDTH = 1920;
+	private static final int VIEWER_HEIGHT = 1080;
+	private static final long TICK_IN_MILLISECONDS = 20;
+	private static final long DURATION_IN_MILLISECONDS = 10000;
+
+	private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+	public void run() throws InterruptedException {
+		System.out.println("viewer size: " + VIEWER_WIDTH + " x " + VIEWER_HEIGHT + " pixels");
+		run("repaint on every tick", new DamageTracker(), () -> true);
+		DamageTracker damageTracker = new DamageTracker();
+		run("repaint when damaged", damageTracker, damageTracker::isRepaintNeeded);
+	}
+
+	private void run(String name, DamageTracker damageTracker, BooleanSupplier isRepaintNeeded)
+			throws InterruptedException {
+		Drawer drawer = createDrawer(damageTracker);
+		BufferedImage canvas = new BufferedImage(VIEWER_WIDTH, VIEWER_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		long frames = 0;
+		long startCpuTime = threadMXBean.getCurrentThreadCpuTime();
+		long start = System.nanoTime();
+		long end = start + DURATION_IN_MILLISECONDS * 1000000;
+		long nextTick = start;
+		while (nextTick < end) {
+			if (isRepaintNeeded.getAsBoolean()) {
+				Graphics2D g2d = canvas.createGraphics();
+				drawer.draw(g2d, VIEWER_WIDTH, VIEWER_HEIGHT, null, null);
+				g2d.dispose();
+				frames++;
+			}
+			nextTick += TICK_IN_MILLISECONDS * 1000000;
+			Thread.sleep(Math.max(0, (nextTick - System.nanoTime()) / 1000000));
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		double cpuSeconds = (threadMXBean.getCurrentThreadCpuTime() - startCpuTime) / 1e9;
+		System.out.println(name + ":");
+		System.out.println("    frames per second: " + String.format("%.1f", frames / seconds));
+		System.out.println("    cpu time:          " + String.format("%.3f s", cpuSeconds));
+		System.out.println("    cpu usage:         " + String.format("%.2f %%", 100 * cpuSeconds / seconds));
+	}
+
+	private Drawer createDrawer(DamageTracker damageTracker) {
+		LayerDeclaration declaration = new LayerDeclaration(
+				0,
+				null,
+				true,
+				true,
+				Settings.createImmutable(true),
+				Settings.createImmutable(false));
+		declaration.update(Dimension.OVERWORLD);
+		List<FragmentDrawer> drawers = Collections.singletonList(new ImageDrawer(declaration));
+		FragmentManager fragmentManager = new FragmentManager(
+				Collections.emptyList(),
+				1,
+				Long.MAX_VALUE,
+				0,
+				Settings.createImmutable(Dimension.OVERWORLD),
+				() -> {
+				});
+		FragmentGraph graph = new FragmentGraph(Collections.singletonList(declaration), fragmentManager);
+		Zoom zoom = new Zoom(Settings.createImmutable(true));
+		Movement movement = new Movement(Settings.createImmutable(true));
+		FragmentGraphToScreenTranslator translator = new FragmentGraphToScreenTranslator(graph, zoom, movement);
+		return new Drawer(
+				graph,
+				translator,
+				zoom,
+				movement,
+				Collections.emptyList(),
+				drawers,
+				Settings.createImmutable(Dimension.OVERWORLD),
+				new Graphics2DAccelerationCounter(),
+				damageTracker);
+	}
+}
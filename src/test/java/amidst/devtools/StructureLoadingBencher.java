@@ -0,0 +1,90 @@
+package amidst.devtools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.minecraftinterface.genlayer.GenLayerMinecraftInterface;
+import amidst.mojangapi.mocking.BenchmarkingMinecraftInterface;
+import amidst.mojangapi.mocking.json.BiomeRequestRecordJson;
+import amidst.mojangapi.world.World;
+import amidst.mojangapi.world.WorldBuilder;
+import amidst.mojangapi.world.WorldOptions;
+import amidst.mojangapi.world.WorldSeed;
+import amidst.mojangapi.world.WorldType;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.icon.WorldIcon;
+import amidst.mojangapi.world.icon.producer.WorldIconProducer;
+
+/**
+ * Measures the time it takes to load the biome data and the overworld
+ * structure layers of a grid of fragments, with and without coalescing the
+ * biome requests of the structure checks. Like the fragment loader, this
+ * populates the biome data of a fragment before it loads the structures. The
+ * biomes are generated by the layers of Amidst, so no minecraft jar file is
+ * needed. The produced icons of both runs are compared to make sure that
+ * coalescing does not change the result.
+ */
+@NotThreadSafe
+public class StructureLoadingBencher {
+	private static final int FRAGMENTS_PER_SIDE = 24;
+	private static final int ROUNDS = 3;
+	private static final WorldOptions WORLD_OPTIONS = new WorldOptions(
+			WorldSeed.fromSaveGame(123456),
+			WorldType.DEFAULT);
+
+	public void run() throws MinecraftInterfaceException {
+		List<String> uncoalesced = null;
+		List<String> coalesced = null;
+		for (int round = 0; round < ROUNDS; round++) {
+			uncoalesced = runOnce(false);
+			coalesced = runOnce(true);
+		}
+		System.out.println("identical icons:           " + uncoalesced.equals(coalesced));
+	}
+
+	private List<String> runOnce(boolean coalesceBiomeRequests) throws MinecraftInterfaceException {
+		List<BiomeRequestRecordJson> records = new ArrayList<>();
+		World world = WorldBuilder.createSilentPlayerless().from(
+				new BenchmarkingMinecraftInterface(new GenLayerMinecraftInterface(RecognisedVersion._1_12_2), records),
+				coalesceBiomeRequests,
+				w -> {
+				},
+				WORLD_OPTIONS);
+		List<WorldIconProducer<Void>> producers = Arrays.asList(
+				world.getVillageProducer(),
+				world.getTempleProducer(),
+				world.getOceanMonumentProducer(),
+				world.getWoodlandMansionProducer(),
+				world.getOceanFeaturesProducer());
+		short[][] biomeData = new short[Fragment.SIZE >> 2][Fragment.SIZE >> 2];
+		List<String> result = new ArrayList<>();
+		long start = System.nanoTime();
+		for (int x = 0; x < FRAGMENTS_PER_SIDE; x++) {
+			for (int y = 0; y < FRAGMENTS_PER_SIDE; y++) {
+				CoordinatesInWorld corner = CoordinatesInWorld.from(x * Fragment.SIZE, y * Fragment.SIZE);
+				world.getBiomeDataOracle().populateArray(corner, biomeData, true);
+				for (WorldIconProducer<Void> producer : producers) {
+					for (WorldIcon icon : producer.getAt(corner, null)) {
+						result.add(icon.toString());
+					}
+				}
+			}
+		}
+		double milliseconds = (System.nanoTime() - start) / 1e6;
+		int fragments = FRAGMENTS_PER_SIDE * FRAGMENTS_PER_SIDE;
+		System.out.println("coalesce biome requests:   " + coalesceBiomeRequests);
+		System.out.println("fragments:                 " + fragments);
+		System.out.println("biome requests:            " + records.size());
+		System.out.println("duration:                  " + String.format("%.0f ms", milliseconds));
+		System.out.println("duration per fragment:     " + String.format("%.3f ms", milliseconds / fragments));
+		System.out.println("icons:                     " + result.size());
+		System.out.println();
+		world.dispose();
+		return result;
+	}
+}
@@ -29,6 +29,7 @@ import amidst.mojangapi.file.MinecraftInstallation;
 import amidst.mojangapi.file.Version;
 import amidst.mojangapi.file.VersionList;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaceCreationException;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceOptions;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaces;
 import amidst.mojangapi.mocking.BenchmarkingMinecraftInterface;
 import amidst.mojangapi.mocking.json.BiomeRequestRecordJson;
@@ -87,7 +88,8 @@ public class WorldGenerationBencher {
 			profile = new RunningLauncherProfile(
 					WorldBuilder.createSilentPlayerless(),
 					launcherProfile,
-					new BenchmarkingMinecraftInterface(MinecraftInterfaces.fromLocalProfile(launcherProfile), records));
+					new BenchmarkingMinecraftInterface(MinecraftInterfaces.fromLocalProfile(launcherProfile), records),
+					MinecraftInterfaceOptions.createDefault());
 		} catch (FormatException | IOException | MinecraftInterfaceCreationException e) {
 			failed.add(version);
 			return;
@@ -43,4 +43,9 @@ public class BenchmarkingMinecraftInterface implements MinecraftInterface {
 	public RecognisedVersion getRecognisedVersion() {
 		return inner.getRecognisedVersion();
 	}
+
+	@Override
+	public void close() {
+		inner.close();
+	}
 }
@@ -38,4 +38,9 @@ public class RequestStoringMinecraftInterface implements MinecraftInterface {
 	public synchronized RecognisedVersion getRecognisedVersion() {
 		return realMinecraftInterface.getRecognisedVersion();
 	}
+
+	@Override
+	public void close() {
+		realMinecraftInterface.close();
+	}
 }
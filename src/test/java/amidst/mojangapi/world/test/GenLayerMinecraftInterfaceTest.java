@@ -0,0 +1,77 @@
+package amidst.mojangapi.world.test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.VoronoiMinecraftInterface;
+import amidst.mojangapi.minecraftinterface.genlayer.GenLayerMinecraftInterface;
+import amidst.mojangapi.world.WorldOptions;
+import amidst.mojangapi.world.testworld.TestWorld;
+import amidst.mojangapi.world.testworld.TestWorldCache;
+import amidst.mojangapi.world.testworld.TestWorldDeclaration;
+import amidst.mojangapi.world.testworld.TestWorldEntryNames;
+import amidst.mojangapi.world.testworld.storage.json.AreaJson;
+import amidst.mojangapi.world.testworld.storage.json.BiomeDataJson;
+
+public class GenLayerMinecraftInterfaceTest {
+	@Test
+	public void shouldGenerateSameBiomesAsMinecraft() throws MinecraftInterfaceException {
+		for (TestWorldDeclaration worldDeclaration : TestWorldDeclaration.values()) {
+			if (GenLayerMinecraftInterface.isSupported(worldDeclaration.getRecognisedVersion())) {
+				TestWorld testWorld = TestWorldCache.get(worldDeclaration);
+				WorldOptions worldOptions = worldDeclaration.getWorldOptions();
+				GenLayerMinecraftInterface minecraftInterface = new GenLayerMinecraftInterface(
+						worldDeclaration.getRecognisedVersion());
+				minecraftInterface.createWorld(
+						worldOptions.getWorldSeed().getLong(),
+						worldOptions.getWorldType(),
+						worldOptions.getGeneratorOptions());
+				assertSameBiomes(worldDeclaration, testWorld, minecraftInterface, true);
+				assertSameBiomes(worldDeclaration, testWorld, minecraftInterface, false);
+			}
+		}
+	}
+
+	@Test
+	public void shouldZoomLikeMinecraft() throws MinecraftInterfaceException {
+		for (TestWorldDeclaration worldDeclaration : TestWorldDeclaration.values()) {
+			if (GenLayerMinecraftInterface.isSupported(worldDeclaration.getRecognisedVersion())) {
+				TestWorld testWorld = TestWorldCache.get(worldDeclaration);
+				WorldOptions worldOptions = worldDeclaration.getWorldOptions();
+				MinecraftInterface minecraftInterface = new VoronoiMinecraftInterface(
+						new GenLayerMinecraftInterface(worldDeclaration.getRecognisedVersion()));
+				minecraftInterface.createWorld(
+						worldOptions.getWorldSeed().getLong(),
+						worldOptions.getWorldType(),
+						worldOptions.getGeneratorOptions());
+				assertSameBiomes(worldDeclaration, testWorld, minecraftInterface, false);
+			}
+		}
+	}
+
+	private void assertSameBiomes(
+			TestWorldDeclaration worldDeclaration,
+			TestWorld testWorld,
+			MinecraftInterface minecraftInterface,
+			boolean useQuarterResolution) throws MinecraftInterfaceException {
+		String name = useQuarterResolution ? TestWorldEntryNames.QUARTER_RESOLUTION_BIOME_DATA
+				: TestWorldEntryNames.FULL_RESOLUTION_BIOME_DATA;
+		BiomeDataJson biomeData = testWorld.getEntryValue(name, BiomeDataJson.class);
+		for (AreaJson area : biomeData.getAreas()) {
+			int x = (int) area.getX();
+			int y = (int) area.getY();
+			int width = (int) area.getWidth();
+			int height = (int) area.getHeight();
+			// the recorded biome data might contain unused elements at the end
+			assertArrayEquals(
+					"biomes changed: [world: " + worldDeclaration + ", entry: " + name + "]",
+					Arrays.copyOf(biomeData.get(x, y, width, height), width * height),
+					minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution));
+		}
+	}
+}
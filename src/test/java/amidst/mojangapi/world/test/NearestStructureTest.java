@@ -0,0 +1,85 @@
+package amidst.mojangapi.world.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.fragment.Fragment;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.minecraftinterface.genlayer.GenLayerMinecraftInterface;
+import amidst.mojangapi.world.World;
+import amidst.mojangapi.world.WorldBuilder;
+import amidst.mojangapi.world.WorldOptions;
+import amidst.mojangapi.world.WorldSeed;
+import amidst.mojangapi.world.WorldType;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.icon.WorldIcon;
+import amidst.mojangapi.world.icon.producer.WorldIconProducer;
+import amidst.mojangapi.world.icon.type.DefaultWorldIconTypes;
+
+public class NearestStructureTest {
+	private static final int FRAGMENTS = 8;
+	private static final long MAX_DISTANCE = 1500;
+
+	@Test
+	public void shouldFindTheSameStructuresAsSearchingEachFragment() throws MinecraftInterfaceException {
+		World world = WorldBuilder.createSilentPlayerless().from(
+				new GenLayerMinecraftInterface(RecognisedVersion._1_12_2),
+				w -> {
+				},
+				new WorldOptions(WorldSeed.fromSaveGame(123456), WorldType.DEFAULT));
+		List<CoordinatesInWorld> froms = Arrays.asList(
+				CoordinatesInWorld.from(0, 0),
+				CoordinatesInWorld.from(-700, 1300),
+				CoordinatesInWorld.from(511, -512),
+				CoordinatesInWorld.from(1900, 1900));
+		assertNearest(world, DefaultWorldIconTypes.VILLAGE, world.getVillageProducer(), froms);
+		assertNearest(world, DefaultWorldIconTypes.MINESHAFT, world.getMineshaftProducer(), froms);
+		assertNearest(world, DefaultWorldIconTypes.WITCH, world.getTempleProducer(), froms);
+		world.dispose();
+	}
+
+	private void assertNearest(
+			World world,
+			DefaultWorldIconTypes type,
+			WorldIconProducer<Void> producer,
+			List<CoordinatesInWorld> froms) {
+		List<WorldIcon> all = new ArrayList<>();
+		for (int x = -FRAGMENTS; x < FRAGMENTS; x++) {
+			for (int y = -FRAGMENTS; y < FRAGMENTS; y++) {
+				CoordinatesInWorld corner = CoordinatesInWorld.from(x * Fragment.SIZE, y * Fragment.SIZE);
+				for (WorldIcon worldIcon : producer.getAt(corner, null)) {
+					if (worldIcon.getName().equals(type.getLabel())) {
+						all.add(worldIcon);
+					}
+				}
+			}
+		}
+		List<WorldIcon> actual = world.nearestStructures(type, froms, MAX_DISTANCE);
+		for (int i = 0; i < froms.size(); i++) {
+			Assert.assertEquals(getCoordinates(findNearest(all, froms.get(i))), getCoordinates(actual.get(i)));
+		}
+	}
+
+	private WorldIcon findNearest(List<WorldIcon> all, CoordinatesInWorld from) {
+		WorldIcon result = null;
+		for (WorldIcon worldIcon : all) {
+			double distanceSq = worldIcon.getCoordinates().getDistanceSq(from);
+			if (distanceSq <= MAX_DISTANCE * MAX_DISTANCE && (result == null
+					|| distanceSq < result.getCoordinates().getDistanceSq(from)
+					|| distanceSq == result.getCoordinates().getDistanceSq(from)
+							&& worldIcon.getCoordinates().compareTo(result.getCoordinates()) < 0)) {
+				result = worldIcon;
+			}
+		}
+		return result;
+	}
+
+	private CoordinatesInWorld getCoordinates(WorldIcon worldIcon) {
+		return worldIcon == null ? null : worldIcon.getCoordinates();
+	}
+}
@@ -0,0 +1,69 @@
+package amidst.mojangapi.world.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.oracle.SlimeChunkOracle;
+import amidst.mojangapi.world.oracle.SlimeCluster;
+import amidst.mojangapi.world.oracle.SlimeClusterFinder;
+
+public class SlimeChunkOracleTest {
+	@Test
+	public void shouldFillTheBitmapLikeIsSlimeChunk() {
+		long[] bitmap = new long[64];
+		long[] corners = { -1000, -33, 0, 17, 1875000 };
+		for (long seed : new long[] { 0, 123456, -4172144997902289642L }) {
+			SlimeChunkOracle oracle = new SlimeChunkOracle(seed);
+			for (long chunkX : corners) {
+				for (long chunkY : corners) {
+					int width = 61;
+					int height = 33;
+					oracle.getSlimeChunks(chunkX, chunkY, width, height, bitmap);
+					for (int y = 0; y < height; y++) {
+						for (int x = 0; x < width; x++) {
+							int i = x + y * width;
+							boolean isSet = (bitmap[i >> 6] & 1L << i) != 0;
+							Assert.assertEquals(oracle.isSlimeChunk(chunkX + x, chunkY + y), isSet);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldFindTheSameClustersAsCountingEachChunk() {
+		SlimeChunkOracle oracle = new SlimeChunkOracle(123456);
+		long centerChunkX = -40;
+		long centerChunkY = 300;
+		int searchRadius = 140;
+		List<SlimeCluster> expected = new ArrayList<>();
+		for (long chunkX = centerChunkX - searchRadius; chunkX <= centerChunkX + searchRadius; chunkX++) {
+			for (long chunkY = centerChunkY - searchRadius; chunkY <= centerChunkY + searchRadius; chunkY++) {
+				int numberOfSlimeChunks = 0;
+				for (int dx = -8; dx <= 8; dx++) {
+					for (int dy = -8; dy <= 8; dy++) {
+						if (dx * dx + dy * dy <= 64 && oracle.isSlimeChunk(chunkX + dx, chunkY + dy)) {
+							numberOfSlimeChunks++;
+						}
+					}
+				}
+				expected.add(
+						new SlimeCluster(
+								CoordinatesInWorld.from(chunkX * 16 + 8, chunkY * 16 + 8),
+								numberOfSlimeChunks));
+			}
+		}
+		Collections.sort(expected);
+		List<SlimeCluster> actual = new SlimeClusterFinder(oracle, ForkJoinPool.commonPool())
+				.find(CoordinatesInWorld.from(centerChunkX * 16, centerChunkY * 16), searchRadius, 20, cluster -> {
+				});
+		Assert.assertEquals(expected.subList(0, 20).toString(), actual.toString());
+	}
+}
@@ -0,0 +1,29 @@
+package amidst.util;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FastRandomTest {
+	private static final int[] BOUNDS = { 1, 2, 3, 5, 8, 10, 24, 60, 80, 100, 1 << 30, (1 << 30) + 1, Integer.MAX_VALUE };
+
+	@Test
+	public void shouldProduceTheSameNumbersAsJavaUtilRandom() {
+		Random seeds = new Random(0);
+		for (int i = 0; i < 1000; i++) {
+			long seed = seeds.nextLong();
+			Random expected = new Random(seed);
+			FastRandom actual = new FastRandom(seed);
+			for (int bound : BOUNDS) {
+				Assert.assertEquals(expected.nextInt(bound), actual.nextInt(bound));
+			}
+			Assert.assertEquals(expected.nextInt(), actual.nextInt());
+			Assert.assertEquals(expected.nextLong(), actual.nextLong());
+			Assert.assertEquals(expected.nextDouble(), actual.nextDouble(), 0);
+			expected.setSeed(seed ^ i);
+			actual.setSeed(seed ^ i);
+			Assert.assertEquals(expected.nextLong(), actual.nextLong());
+		}
+	}
+}